@@ -0,0 +1,97 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@Threads(8)
+public class HttpServerBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int rows;
+
+	@Param({ "4" })
+	public int serverThreads;
+
+	private CensusHttpServer httpServer;
+	private URL sortedURL;
+	private URL topURL;
+	private String etag;
+
+	@Setup
+	public void setUp() throws IOException, CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+		censusAnalyser.loadIndiaCensusData(SyntheticCensusData.censusFile(rows).toString());
+		httpServer = new CensusHttpServer(censusAnalyser, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+				serverThreads, CensusHttpServer.DEFAULT_QUEUE_CAPACITY).start();
+		int port = httpServer.getAddress().getPort();
+		sortedURL = new URL("http", "localhost", port, "/census/sorted?column=DENSITY_PER_SQ_KM&order=DESCENDING");
+		topURL = new URL("http", "localhost", port, "/census/top?column=POPULATION&k=10");
+		HttpURLConnection connection = (HttpURLConnection) sortedURL.openConnection();
+		etag = connection.getHeaderField("ETag");
+		connection.getInputStream().close();
+	}
+
+	@TearDown
+	public void tearDown() {
+		httpServer.close();
+	}
+
+	@Benchmark
+	public long sorted() throws IOException {
+		return fetch(sortedURL, null, null);
+	}
+
+	@Benchmark
+	public long sortedGzip() throws IOException {
+		return fetch(sortedURL, "gzip", null);
+	}
+
+	@Benchmark
+	public long sortedNotModified() throws IOException {
+		return fetch(sortedURL, null, etag);
+	}
+
+	@Benchmark
+	public long topTen() throws IOException {
+		return fetch(topURL, "gzip", null);
+	}
+
+	private static long fetch(URL url, String acceptEncoding, String ifNoneMatch) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		if (acceptEncoding != null) {
+			connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+		}
+		if (ifNoneMatch != null) {
+			connection.setRequestProperty("If-None-Match", ifNoneMatch);
+		}
+		int status = connection.getResponseCode();
+		if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+			return status;
+		}
+		if (status != HttpURLConnection.HTTP_OK) {
+			throw new IOException("Unexpected status " + status + " from " + url);
+		}
+		long bytes = 0;
+		byte[] buffer = new byte[8192];
+		try (InputStream body = connection.getInputStream()) {
+			for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+				bytes += read;
+			}
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,52 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+
+	@Param({ "1000", "1000000", "10000000" })
+	public int rows;
+
+	@Param({ "INNER", "LEFT_OUTER" })
+	public JoinType joinType;
+
+	private CensusTable censusTable;
+	private List<IndiaStateCodeCSV> stateCodeCSVList;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(rows);
+		List<IndiaCensusCSV> censusCSVList = new ArrayList<>(rows);
+		for (int row = 0; row < rows; row++) {
+			IndiaCensusCSV censusCSV = new IndiaCensusCSV();
+			censusCSV.state = SyntheticCensusData.STATES[random.nextInt(SyntheticCensusData.STATES.length)];
+			censusCSV.population = random.nextInt(200000000);
+			censusCSV.areaInSqKm = random.nextInt(400000);
+			censusCSV.densityPerSqKm = random.nextInt(2000);
+			censusCSVList.add(censusCSV);
+		}
+		censusTable = CensusTable.fromCensusList(censusCSVList);
+		stateCodeCSVList = new ArrayList<>();
+		for (int state = 0; state < SyntheticCensusData.STATES.length - 1; state++) {
+			IndiaStateCodeCSV stateCodeCSV = new IndiaStateCodeCSV();
+			stateCodeCSV.state = SyntheticCensusData.STATES[state].toUpperCase(Locale.ROOT).replace(" and ", " & ");
+			stateCodeCSV.stateCode = "S" + state;
+			stateCodeCSVList.add(stateCodeCSV);
+		}
+	}
+
+	@Benchmark
+	public List<StateCensusJoinRow> buildIndexAndJoin() {
+		return StateCensusJoiner.join(censusTable, new StateCodeIndex(stateCodeCSVList), joinType);
+	}
+}
@@ -0,0 +1,46 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+
+	@Param({ "1000", "1000000", "10000000" })
+	public int rows;
+
+	@Param({ "FAST", "PARALLEL" })
+	public CSVBuilderFactory.BuilderType builderType;
+
+	private Path censusFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		censusFile = SyntheticCensusData.censusFile(rows);
+	}
+
+	@Benchmark
+	public List<IndiaCensusCSV> csvBuilder() throws IOException, CSVBuilderException {
+		ICSVBuilder<IndiaCensusCSV> csvBuilder = CSVBuilderFactory.createCSVBuilder(builderType);
+		return csvBuilder.getCSVFileList(censusFile, IndiaCensusCSV.class);
+	}
+
+	@Benchmark
+	public int loadIndiaCensusData() throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCSVBuilderType(builderType);
+		return censusAnalyser.loadIndiaCensusData(censusFile.toString());
+	}
+
+	@Benchmark
+	public int commonsCSV() throws CensusAnalyserException {
+		return new CensusAnalyser().loadIndiaCensusAndStateCodeInCommonsCSV(censusFile.toString());
+	}
+}
@@ -0,0 +1,39 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class OpenCSVLoadBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int rows;
+
+	private Path censusFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		censusFile = SyntheticCensusData.censusFile(rows);
+	}
+
+	@Benchmark
+	public List<IndiaCensusCSV> csvBuilder() throws IOException, CSVBuilderException {
+		ICSVBuilder<IndiaCensusCSV> csvBuilder = CSVBuilderFactory.createCSVBuilder(
+				CSVBuilderFactory.BuilderType.OPEN_CSV);
+		return csvBuilder.getCSVFileList(censusFile, IndiaCensusCSV.class);
+	}
+
+	@Benchmark
+	public int loadIndiaCensusData() throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.OPEN_CSV);
+		return censusAnalyser.loadIndiaCensusData(censusFile.toString());
+	}
+}
@@ -0,0 +1,69 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.gson.Gson;
+
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+	@Param({ "1000", "1000000", "10000000" })
+	public int rows;
+
+	private SortIndexCache sortIndexCache;
+	private List<IndiaCensusCSV> censusCSVList;
+	private final CensusJsonSerializer censusJsonSerializer = new CensusJsonSerializer(0);
+
+	@Setup
+	public void setUp() throws IOException, CSVBuilderException {
+		censusCSVList = new FastCSVBuilder<IndiaCensusCSV>().getCSVFileList(SyntheticCensusData.censusFile(rows),
+				IndiaCensusCSV.class);
+		sortIndexCache = new SortIndexCache(CensusTable.fromCensusList(censusCSVList), new CensusSorter());
+		sortIndexCache.buildAll();
+	}
+
+	@Benchmark
+	public long streamingJsonWriter() throws IOException {
+		CountingWriter writer = new CountingWriter();
+		censusJsonSerializer.write(sortIndexCache, CensusColumn.POPULATION, SortOrder.DESCENDING, writer);
+		return writer.count;
+	}
+
+	@Benchmark
+	public long reflectiveGson() {
+		CountingWriter writer = new CountingWriter();
+		new Gson().toJson(censusCSVList, writer);
+		return writer.count;
+	}
+
+	private static class CountingWriter extends Writer {
+
+		private long count;
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			count += length;
+		}
+
+		@Override
+		public void write(String string, int offset, int length) {
+			count += length;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+	@Param({ "1000", "1000000", "10000000" })
+	public int rows;
+
+	private Path censusFile;
+	private Path snapshotFile;
+	private SourceFingerprint source;
+
+	@Setup
+	public void setUp() throws IOException, CensusAnalyserException {
+		censusFile = SyntheticCensusData.censusFile(rows);
+		snapshotFile = Paths.get(censusFile.toString() + ".snapshot");
+		source = SourceFingerprint.of(censusFile);
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+		censusAnalyser.loadIndiaCensusData(censusFile.toString(), snapshotFile.toString());
+	}
+
+	@Benchmark
+	public CensusTable readSnapshot() throws IOException {
+		return CensusSnapshotFile.readCensus(snapshotFile, source);
+	}
+
+	@Benchmark
+	public int loadIndiaCensusDataFromSnapshot() throws CensusAnalyserException {
+		return new CensusAnalyser().loadIndiaCensusData(censusFile.toString(), snapshotFile.toString());
+	}
+}
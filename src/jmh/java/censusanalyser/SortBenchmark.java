@@ -0,0 +1,55 @@
+package censusanalyser;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+	@Param({ "1000", "1000000", "10000000" })
+	public int rows;
+
+	@Param({ "QUICK_SORT", "PARALLEL_SORT", "RADIX_SORT" })
+	public SortStrategy strategy;
+
+	@Param({ "STATE", "POPULATION", "AREA_IN_SQ_KM", "DENSITY_PER_SQ_KM" })
+	public CensusColumn column;
+
+	private CensusAnalyser censusAnalyser;
+	private CensusSorter censusSorter;
+
+	@Setup
+	public void setUp() throws IOException, CensusAnalyserException {
+		censusSorter = new CensusSorter(strategy, CensusSorter.DEFAULT_PARALLEL_THRESHOLD);
+		censusAnalyser = new CensusAnalyser(censusSorter);
+		censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+		censusAnalyser.loadIndiaCensusData(SyntheticCensusData.censusFile(rows).toString());
+	}
+
+	@Benchmark
+	public int[] coldSortIndex() {
+		SortIndexCache sortIndexCache = new SortIndexCache(censusAnalyser.getDataset().getCensusTable(),
+				censusSorter);
+		SortOrder order = column == CensusColumn.STATE ? SortOrder.ASCENDING : SortOrder.DESCENDING;
+		return sortIndexCache.getSortIndex(column, order);
+	}
+
+	@Benchmark
+	public String sortedGetter() throws CensusAnalyserException {
+		switch (column) {
+		case STATE:
+			return censusAnalyser.getStateWiseSortedCensusData();
+		case POPULATION:
+			return censusAnalyser.getPopulationWiseSortedCensusData();
+		case AREA_IN_SQ_KM:
+			return censusAnalyser.getAreaInSqKmWiseSortedCensusData();
+		default:
+			return censusAnalyser.getDensityPerSqKmWiseSortedCensusData();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+	@Param({ "1000000", "10000000" })
+	public int rows;
+
+	@Param({ "HEAP", "OFF_HEAP", "MEMORY_MAPPED" })
+	public CensusStorage storage;
+
+	private Path censusFile;
+	private CensusAnalyser loadedAnalyser;
+
+	@Setup
+	public void setUp() throws IOException, CensusAnalyserException {
+		censusFile = SyntheticCensusData.censusFile(rows);
+		loadedAnalyser = this.newAnalyser();
+		loadedAnalyser.loadIndiaCensusData(censusFile.toString());
+	}
+
+	private CensusAnalyser newAnalyser() {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+		censusAnalyser.setCensusStorage(storage);
+		return censusAnalyser;
+	}
+
+	@Benchmark
+	public int loadIndiaCensusData() throws CensusAnalyserException {
+		return this.newAnalyser().loadIndiaCensusData(censusFile.toString());
+	}
+
+	@Benchmark
+	public List<CensusAggregate> aggregateNational() throws CensusAnalyserException {
+		return loadedAnalyser.aggregateCensusData(CensusGrouping.NATIONAL, JoinType.LEFT_OUTER);
+	}
+
+	@Benchmark
+	public List<IndiaCensusCSV> topTenByDensity() throws CensusAnalyserException {
+		return loadedAnalyser.topK(CensusColumn.DENSITY_PER_SQ_KM, 10, SortOrder.DESCENDING);
+	}
+}
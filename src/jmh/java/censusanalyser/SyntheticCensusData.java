@@ -0,0 +1,52 @@
+package censusanalyser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+public class SyntheticCensusData {
+
+	static final String[] STATES = { "Uttar Pradesh", "Maharashtra", "Bihar", "West Bengal",
+			"Madhya Pradesh", "Tamil Nadu", "Rajasthan", "Karnataka", "Gujarat", "Andhra Pradesh", "Odisha",
+			"Telangana", "Kerala", "Jharkhand", "Assam", "Punjab", "Chattisgarh", "Haryana", "Jammu and Kashmir",
+			"Uttarakhand", "Himachal Pradesh", "Tripura", "Meghalaya", "Manipur", "Nagaland", "Goa",
+			"Arunachal Pradesh", "Mizoram", "Sikkim" };
+
+	private SyntheticCensusData() {
+	}
+
+	public static Path censusFile(int rows) throws IOException {
+		Path directory = Paths.get(System.getProperty("census.bench.dir", "build/jmh-data"));
+		Path censusFile = directory.resolve("IndiaCensusSynthetic-" + rows + ".csv");
+		if (Files.exists(censusFile)) {
+			return censusFile;
+		}
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, "census", ".tmp");
+		Random random = new Random(rows);
+		try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+			writer.write("State,Population,AreaInSqKm,DensityPerSqKm\n");
+			for (int row = 0; row < rows; row++) {
+				int area = 1 + random.nextInt(400000);
+				int density = random.nextInt(2000);
+				writer.write(STATES[random.nextInt(STATES.length)]);
+				writer.write(" Village ");
+				writer.write(Integer.toString(row));
+				writer.write(',');
+				writer.write(Integer.toString(area * density));
+				writer.write(',');
+				writer.write(Integer.toString(area));
+				writer.write(',');
+				writer.write(Integer.toString(density));
+				writer.write('\n');
+			}
+		}
+		Files.move(tempFile, censusFile, StandardCopyOption.REPLACE_EXISTING);
+		return censusFile;
+	}
+}
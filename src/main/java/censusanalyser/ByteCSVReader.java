@@ -0,0 +1,303 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class ByteCSVReader {
+
+	private static final byte QUOTE = '"';
+	private static final byte SEPARATOR = ',';
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15 };
+
+	private final ByteBuffer buffer;
+	private final int limit;
+	private final boolean endOfInput;
+	private int position;
+	private int rowStart;
+	private long lineNumber;
+
+	private int fieldCount;
+	private int[] fieldStarts = new int[16];
+	private int[] fieldEnds = new int[16];
+	private boolean[] fieldEscaped = new boolean[16];
+	private byte[] scratch = new byte[256];
+
+	public ByteCSVReader(ByteBuffer buffer, int start, int limit, boolean endOfInput, long firstLineNumber) {
+		this.buffer = buffer;
+		this.position = start;
+		this.limit = limit;
+		this.endOfInput = endOfInput;
+		this.lineNumber = firstLineNumber - 1;
+		if (start == 0 && firstLineNumber == 1 && limit >= 3 && (buffer.get(0) & 0xFF) == 0xEF
+				&& (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF) {
+			this.position = 3;
+		}
+	}
+
+	public int getPosition() {
+		return position;
+	}
+
+	public int getRowStart() {
+		return rowStart;
+	}
+
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	public boolean nextRow() {
+		while (true) {
+			int rowStart = position;
+			long rowLineNumber = lineNumber;
+			if (!this.readRow()) {
+				position = rowStart;
+				lineNumber = rowLineNumber;
+				return false;
+			}
+			if (fieldCount > 1 || fieldEnds[0] > fieldStarts[0] || fieldEscaped[0]) {
+				return true;
+			}
+		}
+	}
+
+	private boolean readRow() {
+		if (position >= limit) {
+			return false;
+		}
+		fieldCount = 0;
+		lineNumber++;
+		rowStart = position;
+		int index = position;
+		while (true) {
+			while (index < limit && buffer.get(index) == ' ') {
+				index++;
+			}
+			int start = index;
+			int end;
+			boolean escaped = false;
+			if (index < limit && buffer.get(index) == QUOTE) {
+				start = ++index;
+				while (true) {
+					if (index >= limit) {
+						if (!endOfInput) {
+							return false;
+						}
+						end = index;
+						break;
+					}
+					byte current = buffer.get(index);
+					if (current == QUOTE) {
+						if (index + 1 < limit && buffer.get(index + 1) == QUOTE) {
+							escaped = true;
+							index += 2;
+							continue;
+						}
+						if (index + 1 >= limit && !endOfInput) {
+							return false;
+						}
+						end = index++;
+						break;
+					}
+					if (current == '\n') {
+						lineNumber++;
+					}
+					index++;
+				}
+				while (index < limit && buffer.get(index) != SEPARATOR && buffer.get(index) != '\n') {
+					index++;
+				}
+			} else {
+				while (index < limit && buffer.get(index) != SEPARATOR && buffer.get(index) != '\n') {
+					index++;
+				}
+				end = index;
+				if (end > start && buffer.get(end - 1) == '\r') {
+					end--;
+				}
+			}
+			this.addField(start, end, escaped);
+			if (index >= limit) {
+				if (!endOfInput) {
+					return false;
+				}
+				position = index;
+				return true;
+			}
+			if (buffer.get(index) == '\n') {
+				position = index + 1;
+				return true;
+			}
+			index++;
+		}
+	}
+
+	private void addField(int start, int end, boolean escaped) {
+		if (fieldCount == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+			fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+		}
+		fieldStarts[fieldCount] = start;
+		fieldEnds[fieldCount] = end;
+		fieldEscaped[fieldCount] = escaped;
+		fieldCount++;
+	}
+
+	public long hashRow() {
+		int end = this.rowEnd();
+		long hash = FNV_OFFSET_BASIS;
+		for (int index = rowStart; index < end; index++) {
+			hash = (hash ^ (buffer.get(index) & 0xFF)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	public void writeRow(OutputStream outputStream) throws IOException {
+		int end = this.rowEnd();
+		for (int index = rowStart; index < end; index++) {
+			outputStream.write(buffer.get(index));
+		}
+	}
+
+	private int rowEnd() {
+		int end = position;
+		if (end > rowStart && buffer.get(end - 1) == '\n') {
+			end--;
+		}
+		if (end > rowStart && buffer.get(end - 1) == '\r') {
+			end--;
+		}
+		return end;
+	}
+
+	public boolean fieldEquals(int field, byte[] token) {
+		int start = fieldStarts[field];
+		int end = this.trimmedEnd(field);
+		if (end - start != token.length || fieldEscaped[field]) {
+			return false;
+		}
+		for (int index = 0; index < token.length; index++) {
+			if (buffer.get(start + index) != token[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean dropSuffix(int field, byte suffix) {
+		int end = this.trimmedEnd(field);
+		if (end > fieldStarts[field] && buffer.get(end - 1) == suffix) {
+			fieldEnds[field] = end - 1;
+			return true;
+		}
+		return false;
+	}
+
+	public boolean isEmpty(int field) {
+		return fieldEnds[field] <= fieldStarts[field];
+	}
+
+	public String getString(int field) {
+		int start = fieldStarts[field];
+		int length = fieldEnds[field] - start;
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		boolean ascii = true;
+		int copied = 0;
+		for (int index = start; index < start + length; index++) {
+			byte current = buffer.get(index);
+			if (current == QUOTE && fieldEscaped[field]) {
+				index++;
+			}
+			ascii &= current >= 0;
+			scratch[copied++] = current;
+		}
+		return new String(scratch, 0, copied, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+	}
+
+	public int getInt(int field) {
+		long value = this.getLong(field);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new NumberFormatException("Value out of int range");
+		}
+		return (int) value;
+	}
+
+	public long getLong(int field) {
+		int index = fieldStarts[field];
+		int end = this.trimmedEnd(field);
+		boolean negative = false;
+		if (index < end && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+			negative = buffer.get(index) == '-';
+			index++;
+		}
+		if (index >= end) {
+			throw new NumberFormatException("Missing number");
+		}
+		long value = 0;
+		for (; index < end; index++) {
+			int digit = buffer.get(index) - '0';
+			if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+				throw new NumberFormatException("Invalid number '" + this.getString(field) + "'");
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	public double getDouble(int field) {
+		int start = fieldStarts[field];
+		int end = this.trimmedEnd(field);
+		int index = start;
+		boolean negative = false;
+		if (index < end && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+			negative = buffer.get(index) == '-';
+			index++;
+		}
+		long mantissa = 0;
+		int scale = 0;
+		int digits = 0;
+		boolean fraction = false;
+		for (; index < end; index++) {
+			byte current = buffer.get(index);
+			if (current == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+			int digit = current - '0';
+			if (digit < 0 || digit > 9 || digits >= 15) {
+				return Double.parseDouble(this.getString(field).trim());
+			}
+			mantissa = mantissa * 10 + digit;
+			digits++;
+			if (fraction) {
+				scale++;
+			}
+		}
+		if (digits == 0) {
+			throw new NumberFormatException("Missing number");
+		}
+		double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+		return negative ? -value : value;
+	}
+
+	private int trimmedEnd(int field) {
+		int end = fieldEnds[field];
+		while (end > fieldStarts[field] && buffer.get(end - 1) == ' ') {
+			end--;
+		}
+		return end;
+	}
+}
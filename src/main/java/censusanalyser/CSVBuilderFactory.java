@@ -4,7 +4,22 @@ package censusanalyser;
 
 public class CSVBuilderFactory {
 
-	public static ICSVBuilder createCSVBuilder() {
+	public enum BuilderType {
+		OPEN_CSV, FAST, PARALLEL
+	}
+
+	public static <E> ICSVBuilder<E> createCSVBuilder() {
 		return new OpenCSVBuilder<>();		
 	}
+
+	public static <E> ICSVBuilder<E> createCSVBuilder(BuilderType builderType) {
+		switch (builderType) {
+		case FAST:
+			return new FastCSVBuilder<>();
+		case PARALLEL:
+			return new ParallelCSVBuilder<>();
+		default:
+			return CSVBuilderFactory.createCSVBuilder();
+		}
+	}
 }
@@ -0,0 +1,48 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class CSVRecordDispatcher<E> {
+
+	private final List<Consumer<? super E>> consumers = new CopyOnWriteArrayList<>();
+
+	public void addConsumer(Consumer<? super E> consumer) {
+		consumers.add(consumer);
+	}
+
+	public boolean removeConsumer(Consumer<? super E> consumer) {
+		return consumers.remove(consumer);
+	}
+
+	@SafeVarargs
+	public final int dispatch(Iterator<? extends E> iterator, Consumer<? super E>... extraConsumers) {
+		Consumer<E> sink = this.sink(extraConsumers);
+		int count = 0;
+		while (iterator.hasNext()) {
+			sink.accept(iterator.next());
+			count++;
+		}
+		return count;
+	}
+
+	@SafeVarargs
+	public final Consumer<E> sink(Consumer<? super E>... extraConsumers) {
+		List<Consumer<? super E>> targets = new ArrayList<>(consumers);
+		for (Consumer<? super E> extraConsumer : extraConsumers) {
+			targets.add(extraConsumer);
+		}
+		Consumer<E> sink = null;
+		for (Consumer<? super E> target : targets) {
+			sink = sink == null ? target::accept : sink.andThen(target);
+		}
+		if (sink == null) {
+			return record -> {
+			};
+		}
+		return sink;
+	}
+}
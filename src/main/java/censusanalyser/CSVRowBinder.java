@@ -0,0 +1,177 @@
+package censusanalyser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opencsv.bean.CsvBindByName;
+
+public class CSVRowBinder<E> {
+
+	private static final ConcurrentHashMap<Class<?>, CSVRowBinder<?>> BINDERS = new ConcurrentHashMap<>();
+
+	private final Class<E> csvClass;
+	private final MethodHandle constructor;
+	private final List<FieldBinding> fieldBindings;
+
+	private CSVRowBinder(Class<E> csvClass) throws CSVBuilderException {
+		this.csvClass = csvClass;
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			this.constructor = lookup.findConstructor(csvClass, MethodType.methodType(void.class))
+					.asType(MethodType.methodType(Object.class));
+			this.fieldBindings = new ArrayList<>();
+			for (Field field : csvClass.getDeclaredFields()) {
+				CsvBindByName bindByName = field.getAnnotation(CsvBindByName.class);
+				if (bindByName == null || Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				field.setAccessible(true);
+				String column = bindByName.column().isEmpty() ? field.getName() : bindByName.column();
+				fieldBindings.add(new FieldBinding(column, bindByName.required(), field, lookup.unreflectSetter(field)));
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new CSVBuilderException("Unable to bind " + csvClass.getName() + ": " + e.getMessage(),
+					CSVBuilderException.ExceptionType.UNABLE_TO_PARSE, e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> CSVRowBinder<E> forClass(Class<E> csvClass) throws CSVBuilderException {
+		CSVRowBinder<?> binder = BINDERS.get(csvClass);
+		if (binder == null) {
+			binder = new CSVRowBinder<>(csvClass);
+			CSVRowBinder<?> previous = BINDERS.putIfAbsent(csvClass, binder);
+			if (previous != null) {
+				binder = previous;
+			}
+		}
+		return (CSVRowBinder<E>) binder;
+	}
+
+	public Class<E> getCSVClass() {
+		return csvClass;
+	}
+
+	public HeaderBinding bindHeader(ByteCSVReader header) throws CSVBuilderException {
+		int fieldCount = header.getFieldCount();
+		FieldBinding[] bindings = new FieldBinding[fieldCount];
+		List<String> missing = new ArrayList<>();
+		for (FieldBinding fieldBinding : fieldBindings) {
+			boolean found = false;
+			for (int field = 0; field < fieldCount; field++) {
+				if (header.getString(field).trim().equalsIgnoreCase(fieldBinding.column)) {
+					bindings[field] = fieldBinding;
+					found = true;
+					break;
+				}
+			}
+			if (!found && fieldBinding.required) {
+				missing.add(fieldBinding.column);
+			}
+		}
+		if (!missing.isEmpty()) {
+			throw new CSVBuilderException("Header is missing required fields " + missing,
+					CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+		}
+		return new HeaderBinding(bindings);
+	}
+
+	public class HeaderBinding {
+
+		private final FieldBinding[] bindings;
+
+		private HeaderBinding(FieldBinding[] bindings) {
+			this.bindings = bindings;
+		}
+
+		public int getFieldCount() {
+			return bindings.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		public E bind(ByteCSVReader row) throws CSVBuilderException {
+			try {
+				if (row.getFieldCount() != bindings.length) {
+					throw new IllegalArgumentException(
+							"Expected " + bindings.length + " fields but found " + row.getFieldCount());
+				}
+				Object bean = constructor.invokeExact();
+				for (int field = 0; field < bindings.length; field++) {
+					FieldBinding binding = bindings[field];
+					if (binding != null) {
+						binding.set(bean, row, field);
+					}
+				}
+				return (E) bean;
+			} catch (CSVBuilderException | Error e) {
+				throw e;
+			} catch (RuntimeException e) {
+				throw this.unableToParse(row, e);
+			} catch (Throwable e) {
+				throw this.unableToParse(row, e);
+			}
+		}
+
+		private CSVBuilderException unableToParse(ByteCSVReader row, Throwable e) {
+			return new CSVBuilderException("Line " + row.getLineNumber() + ": " + e.getMessage(),
+					CSVBuilderException.ExceptionType.UNABLE_TO_PARSE, e);
+		}
+	}
+
+	private static class FieldBinding {
+
+		private static final List<Class<?>> SUPPORTED_TYPES = Arrays.asList(int.class, String.class,
+				long.class, double.class, float.class, Integer.class, Long.class, Double.class);
+
+		private final String column;
+		private final boolean required;
+		private final Class<?> type;
+		private final MethodHandle setter;
+
+		FieldBinding(String column, boolean required, Field field, MethodHandle setter) {
+			this.column = column.toUpperCase(Locale.ROOT);
+			this.required = required;
+			this.type = field.getType();
+			if (!SUPPORTED_TYPES.contains(type)) {
+				throw new IllegalArgumentException("Unsupported field type " + type.getName() + " for " + column);
+			}
+			this.setter = setter.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+		}
+
+		void set(Object bean, ByteCSVReader row, int field) throws Throwable {
+			if (row.isEmpty(field)) {
+				if (required) {
+					throw new CSVBuilderException(
+							"Line " + row.getLineNumber() + ": field " + column + " is mandatory but no value was provided",
+							CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+				}
+				return;
+			}
+			if (type == int.class) {
+				setter.invokeExact(bean, row.getInt(field));
+			} else if (type == String.class) {
+				setter.invokeExact(bean, row.getString(field));
+			} else if (type == long.class) {
+				setter.invokeExact(bean, row.getLong(field));
+			} else if (type == double.class) {
+				setter.invokeExact(bean, row.getDouble(field));
+			} else if (type == float.class) {
+				setter.invokeExact(bean, (float) row.getDouble(field));
+			} else if (type == Integer.class) {
+				setter.invokeExact(bean, (Integer) row.getInt(field));
+			} else if (type == Long.class) {
+				setter.invokeExact(bean, (Long) row.getLong(field));
+			} else {
+				setter.invokeExact(bean, (Double) row.getDouble(field));
+			}
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package censusanalyser;
+
+public class CensusAggregate {
+
+	public String key;
+	public long count;
+	public ColumnStatistics population;
+	public ColumnStatistics areaInSqKm;
+	public ColumnStatistics densityPerSqKm;
+	public double areaWeightedDensity;
+
+	@Override
+	public String toString() {
+		return "CensusAggregate [key=" + key + ", count=" + count + ", population=" + population + ", areaInSqKm="
+				+ areaInSqKm + ", densityPerSqKm=" + densityPerSqKm + ", areaWeightedDensity=" + areaWeightedDensity
+				+ "]";
+	}
+
+	public static class ColumnStatistics {
+
+		public long sum;
+		public int min;
+		public int max;
+		public double average;
+
+		@Override
+		public String toString() {
+			return "ColumnStatistics [sum=" + sum + ", min=" + min + ", max=" + max + ", average=" + average + "]";
+		}
+	}
+}
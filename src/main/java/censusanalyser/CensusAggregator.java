@@ -0,0 +1,202 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class CensusAggregator {
+
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+	private static final int NO_GROUP = -1;
+
+	private final ForkJoinPool pool;
+	private final int parallelThreshold;
+
+	public CensusAggregator() {
+		this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	public CensusAggregator(ForkJoinPool pool, int parallelThreshold) {
+		this.pool = pool;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public List<CensusAggregate> aggregate(CensusTable censusTable, StateCodeIndex stateCodeIndex,
+			CensusGrouping grouping, JoinType joinType) {
+		List<String> groupKeys = new ArrayList<>();
+		int[] groupOfStateId = this.resolveGroups(censusTable, stateCodeIndex, grouping, joinType, groupKeys);
+		int size = censusTable.size();
+		int chunks = size < parallelThreshold ? 1 : Math.min(pool.getParallelism() * 4,
+				(size + parallelThreshold - 1) / parallelThreshold);
+		Accumulators total;
+		if (chunks <= 1) {
+			total = new Accumulators(groupKeys.size()).accumulate(censusTable, groupOfStateId, 0, size);
+		} else {
+			List<ForkJoinTask<Accumulators>> partials = new ArrayList<>(chunks);
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int from = (int) ((long) size * chunk / chunks);
+				int to = (int) ((long) size * (chunk + 1) / chunks);
+				partials.add(pool.submit(
+						() -> new Accumulators(groupKeys.size()).accumulate(censusTable, groupOfStateId, from, to)));
+			}
+			total = new Accumulators(groupKeys.size());
+			for (ForkJoinTask<Accumulators> partial : partials) {
+				total.merge(this.join(partial));
+			}
+		}
+		List<CensusAggregate> aggregates = new ArrayList<>(groupKeys.size());
+		for (int group = 0; group < groupKeys.size(); group++) {
+			if (total.count[group] > 0) {
+				aggregates.add(total.toAggregate(group, groupKeys.get(group)));
+			}
+		}
+		aggregates.sort(Comparator.comparing(aggregate -> aggregate.key,
+				Comparator.nullsLast(Comparator.naturalOrder())));
+		return aggregates;
+	}
+
+	private int[] resolveGroups(CensusTable censusTable, StateCodeIndex stateCodeIndex, CensusGrouping grouping,
+			JoinType joinType, List<String> groupKeys) {
+		int[] groupOfStateId = new int[censusTable.getStateDictionarySize()];
+		Map<String, Integer> groupIds = new HashMap<>();
+		for (int stateId = 0; stateId < groupOfStateId.length; stateId++) {
+			String key;
+			boolean matched = true;
+			if (grouping == CensusGrouping.NATIONAL) {
+				key = "IN";
+			} else {
+				IndiaStateCodeCSV stateCodeCSV = stateCodeIndex.find(censusTable.getDictionaryState(stateId));
+				matched = stateCodeCSV != null;
+				String stateCode = matched ? stateCodeCSV.stateCode : null;
+				key = grouping == CensusGrouping.STATE_CODE ? stateCode : IndianRegion.forStateCode(stateCode).name();
+			}
+			if (!matched && joinType == JoinType.INNER) {
+				groupOfStateId[stateId] = NO_GROUP;
+				continue;
+			}
+			Integer group = groupIds.get(key);
+			if (group == null) {
+				group = groupKeys.size();
+				groupIds.put(key, group);
+				groupKeys.add(key);
+			}
+			groupOfStateId[stateId] = group;
+		}
+		return groupOfStateId;
+	}
+
+	private Accumulators join(ForkJoinTask<Accumulators> task) {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e.getMessage(), e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(String.valueOf(e.getCause().getMessage()), e.getCause());
+		}
+	}
+
+	private static class Accumulators {
+
+		private final long[] count;
+		private final long[] populationSum;
+		private final int[] populationMin;
+		private final int[] populationMax;
+		private final long[] areaSum;
+		private final int[] areaMin;
+		private final int[] areaMax;
+		private final long[] densitySum;
+		private final int[] densityMin;
+		private final int[] densityMax;
+		private final long[] densityAreaSum;
+
+		Accumulators(int groups) {
+			this.count = new long[groups];
+			this.populationSum = new long[groups];
+			this.populationMin = filled(groups, Integer.MAX_VALUE);
+			this.populationMax = filled(groups, Integer.MIN_VALUE);
+			this.areaSum = new long[groups];
+			this.areaMin = filled(groups, Integer.MAX_VALUE);
+			this.areaMax = filled(groups, Integer.MIN_VALUE);
+			this.densitySum = new long[groups];
+			this.densityMin = filled(groups, Integer.MAX_VALUE);
+			this.densityMax = filled(groups, Integer.MIN_VALUE);
+			this.densityAreaSum = new long[groups];
+		}
+
+		private static int[] filled(int groups, int value) {
+			int[] values = new int[groups];
+			Arrays.fill(values, value);
+			return values;
+		}
+
+		Accumulators accumulate(CensusTable censusTable, int[] groupOfStateId, int from, int to) {
+			for (int row = from; row < to; row++) {
+				int group = groupOfStateId[censusTable.getStateId(row)];
+				if (group == NO_GROUP) {
+					continue;
+				}
+				int population = censusTable.getPopulation(row);
+				int area = censusTable.getAreaInSqKm(row);
+				int density = censusTable.getDensityPerSqKm(row);
+				count[group]++;
+				populationSum[group] += population;
+				populationMin[group] = Math.min(populationMin[group], population);
+				populationMax[group] = Math.max(populationMax[group], population);
+				areaSum[group] += area;
+				areaMin[group] = Math.min(areaMin[group], area);
+				areaMax[group] = Math.max(areaMax[group], area);
+				densitySum[group] += density;
+				densityMin[group] = Math.min(densityMin[group], density);
+				densityMax[group] = Math.max(densityMax[group], density);
+				densityAreaSum[group] += (long) density * area;
+			}
+			return this;
+		}
+
+		void merge(Accumulators other) {
+			for (int group = 0; group < count.length; group++) {
+				count[group] += other.count[group];
+				populationSum[group] += other.populationSum[group];
+				populationMin[group] = Math.min(populationMin[group], other.populationMin[group]);
+				populationMax[group] = Math.max(populationMax[group], other.populationMax[group]);
+				areaSum[group] += other.areaSum[group];
+				areaMin[group] = Math.min(areaMin[group], other.areaMin[group]);
+				areaMax[group] = Math.max(areaMax[group], other.areaMax[group]);
+				densitySum[group] += other.densitySum[group];
+				densityMin[group] = Math.min(densityMin[group], other.densityMin[group]);
+				densityMax[group] = Math.max(densityMax[group], other.densityMax[group]);
+				densityAreaSum[group] += other.densityAreaSum[group];
+			}
+		}
+
+		CensusAggregate toAggregate(int group, String key) {
+			CensusAggregate aggregate = new CensusAggregate();
+			aggregate.key = key;
+			aggregate.count = count[group];
+			aggregate.population = statistics(populationSum[group], populationMin[group], populationMax[group],
+					count[group]);
+			aggregate.areaInSqKm = statistics(areaSum[group], areaMin[group], areaMax[group], count[group]);
+			aggregate.densityPerSqKm = statistics(densitySum[group], densityMin[group], densityMax[group],
+					count[group]);
+			aggregate.areaWeightedDensity = areaSum[group] == 0 ? 0 : (double) densityAreaSum[group] / areaSum[group];
+			return aggregate;
+		}
+
+		private static CensusAggregate.ColumnStatistics statistics(long sum, int min, int max, long count) {
+			CensusAggregate.ColumnStatistics statistics = new CensusAggregate.ColumnStatistics();
+			statistics.sum = sum;
+			statistics.min = min;
+			statistics.max = max;
+			statistics.average = (double) sum / count;
+			return statistics;
+		}
+	}
+}
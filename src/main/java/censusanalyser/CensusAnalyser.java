@@ -1,186 +1,777 @@
 package censusanalyser;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
 /*import JarFileCensusAnalyser.CSVBuilderException;
 import JarFileCensusAnalyser.CSVBuilderFactory;
 import JarFileCensusAnalyser.ICSVBuilder;*/
 
 public class CensusAnalyser {
 
-	List<IndiaCensusCSV> censusCSVList = null;
-	List<IndiaStateCodeCSV> stateCodeCSVList = null;
+	private final AtomicReference<CensusDataset> dataset = new AtomicReference<>(CensusDataset.EMPTY);
+	private final AtomicLong datasetVersions = new AtomicLong();
+	private final CensusSorter censusSorter;
+	private final CensusJsonSerializer censusJsonSerializer = new CensusJsonSerializer();
+	private final CensusExporter censusExporter = new CensusExporter(censusJsonSerializer);
+	private final CensusAggregator censusAggregator = new CensusAggregator();
+	private final DatasetLoader datasetLoader;
+	private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "census-reload");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private volatile boolean eagerSortIndexing = false;
+	private volatile boolean collectCensusStatistics = false;
+	private volatile CSVBuilderFactory.BuilderType csvBuilderType = CSVBuilderFactory.BuilderType.OPEN_CSV;
+	private volatile CensusStorage censusStorage = CensusStorage.HEAP;
+	private volatile IncrementalCensusLoader incrementalCensusLoader;
+	private volatile CensusIngestionPipeline ingestionPipeline = new CensusIngestionPipeline();
+	private volatile CensusAnalyserMetrics metrics;
+	private final CSVRecordDispatcher<IndiaCensusCSV> censusDispatcher = new CSVRecordDispatcher<>();
+	private final CSVRecordDispatcher<IndiaStateCodeCSV> stateCodeDispatcher = new CSVRecordDispatcher<>();
+	private final CSVRecordDispatcher<CSVRecord> commonsCSVDispatcher = new CSVRecordDispatcher<>();
+
+	public CensusAnalyser() {
+		this(new CensusSorter());
+	}
+
+	public CensusAnalyser(CensusSorter censusSorter) {
+		this.censusSorter = censusSorter;
+		this.datasetLoader = new DatasetLoader(censusSorter);
+		this.setMetricsRegistry(new InMemoryMetricsRegistry());
+	}
+
+	public MetricsRegistry getMetricsRegistry() {
+		return metrics.metricsRegistry;
+	}
+
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+		censusSorter.setMetricsRegistry(metricsRegistry);
+		censusJsonSerializer.setMetricsRegistry(metricsRegistry);
+		this.metrics = new CensusAnalyserMetrics(metricsRegistry);
+	}
+
+	public MetricsSnapshot getMetricsSnapshot() {
+		return metrics.metricsRegistry.snapshot();
+	}
+
+	public CensusSorter getCensusSorter() {
+		return censusSorter;
+	}
+
+	public SortReport getLastSortReport() {
+		return censusSorter.getLastSortReport();
+	}
+
+	public CensusDataset getDataset() {
+		return dataset.get();
+	}
+
+	public long getDatasetVersion() {
+		return dataset.get().getVersion();
+	}
+
+	public void setEagerSortIndexing(boolean eagerSortIndexing) {
+		this.eagerSortIndexing = eagerSortIndexing;
+	}
+
+	public void setCollectCensusStatistics(boolean collectCensusStatistics) {
+		this.collectCensusStatistics = collectCensusStatistics;
+	}
+
+	public void setCSVBuilderType(CSVBuilderFactory.BuilderType csvBuilderType) {
+		this.csvBuilderType = csvBuilderType;
+	}
+
+	public void setIngestionPipeline(CensusIngestionPipeline ingestionPipeline) {
+		this.ingestionPipeline = ingestionPipeline;
+	}
+
+	public CensusStorage getCensusStorage() {
+		return censusStorage;
+	}
+
+	public void setCensusStorage(CensusStorage censusStorage) {
+		this.censusStorage = censusStorage;
+	}
+
+	public void addCensusConsumer(Consumer<? super IndiaCensusCSV> consumer) {
+		censusDispatcher.addConsumer(consumer);
+	}
+
+	public void addStateCodeConsumer(Consumer<? super IndiaStateCodeCSV> consumer) {
+		stateCodeDispatcher.addConsumer(consumer);
+	}
+
+	public void addCommonsCSVConsumer(Consumer<? super CSVRecord> consumer) {
+		commonsCSVDispatcher.addConsumer(consumer);
+	}
 
 	public int loadIndiaCensusData(String csvFilePath) throws CensusAnalyserException {
-		try (Reader reader = Files.newBufferedReader(Paths.get(csvFilePath))) {
-			ICSVBuilder csvBuilder = CSVBuilderFactory.createCSVBuilder();
-			censusCSVList = csvBuilder.getCSVFileList(reader, IndiaCensusCSV.class);
-			return censusCSVList.size();
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.censusLoad;
+		long start = System.nanoTime();
+		try {
+			CensusStatisticsCollector statistics = this.newStatisticsCollector();
+			CensusTable loadedTable = this.readIndiaCensusData(csvFilePath, statistics);
+			return loadMetrics.loaded(start, this.publishCensusTable(loadedTable, statistics).size());
+		} catch (CensusAnalyserException e) {
+			throw loadMetrics.failed(e);
+		}
+	}
+
+	public int loadIndiaCensusData(String csvFilePath, String snapshotFilePath) throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.censusLoad;
+		long start = System.nanoTime();
+		try {
+			Path snapshotPath = Paths.get(snapshotFilePath);
+			SourceFingerprint source = SourceFingerprint.of(Paths.get(csvFilePath));
+			CensusStatisticsCollector statistics = this.newStatisticsCollector();
+			CensusTable loadedTable = CensusSnapshotFile.readCensus(snapshotPath, source);
+			if (loadedTable == null) {
+				loadedTable = this.readIndiaCensusData(csvFilePath, statistics);
+				try {
+					CensusSnapshotFile.writeCensus(snapshotPath, loadedTable, source);
+				} catch (IOException e) {
+					metrics.snapshotWriteFailures.increment(1);
+				}
+			} else if (statistics != null) {
+				statistics = CensusStatisticsCollector.of(loadedTable);
+			}
+			return loadMetrics.loaded(start, this.publishCensusTable(loadedTable, statistics).size());
+		} catch (IOException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		} catch (CensusAnalyserException e) {
+			throw loadMetrics.failed(e);
+		} catch (RuntimeException e) {
+			throw loadMetrics.failed(
+					new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR));
+		}
+	}
+
+	private CensusTable readIndiaCensusData(String csvFilePath, CensusStatisticsCollector statistics)
+			throws CensusAnalyserException {
+		try {
+			this.checkHeader(csvFilePath, IndiaCensusCSV.class, CensusAnalyserException.ExceptionType.FILE_ERROR,
+					CSVBuilderException.ExceptionType.FILE_ERROR);
+			if (censusStorage != CensusStorage.HEAP) {
+				CensusTableBuilder tableBuilder = new CensusTableBuilder(censusStorage);
+				new FastCSVBuilder<IndiaCensusCSV>().stream(Paths.get(csvFilePath), IndiaCensusCSV.class,
+						statistics == null ? censusDispatcher.sink(tableBuilder)
+								: censusDispatcher.sink(tableBuilder, statistics));
+				return tableBuilder.build();
+			}
+			if (statistics != null && csvBuilderType == CSVBuilderFactory.BuilderType.PARALLEL) {
+				List<IndiaCensusCSV> censusCSVList = new ParallelCSVBuilder<IndiaCensusCSV>().getCSVFileList(
+						Paths.get(csvFilePath), IndiaCensusCSV.class, CensusStatisticsCollector::new, statistics::merge);
+				censusDispatcher.dispatch(censusCSVList.iterator());
+				return CensusTable.fromCensusList(censusCSVList);
+			}
+			ICSVBuilder<IndiaCensusCSV> csvBuilder = CSVBuilderFactory.createCSVBuilder(csvBuilderType);
+			List<IndiaCensusCSV> censusCSVList = csvBuilder.getCSVFileList(Paths.get(csvFilePath),
+					IndiaCensusCSV.class);
+			this.dispatchCensusRows(censusCSVList, statistics);
+			return CensusTable.fromCensusList(censusCSVList);
 		} catch (IOException e) {
 			throw new CensusAnalyserException(e.getMessage(),
 					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM);
 		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE);
 		} catch (RuntimeException e) {
+			metrics.parseError(CSVBuilderException.ExceptionType.FILE_ERROR);
+			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
+		}
+	}
+
+	public ValidationReport loadIndiaCensusData(String csvFilePath, ValidationPolicy validationPolicy)
+			throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.censusLoad;
+		long start = System.nanoTime();
+		CensusStatisticsCollector statistics = this.newStatisticsCollector();
+		try (ValidatingRowVisitor<IndiaCensusCSV> rowVisitor = new ValidatingRowVisitor<>(
+				CSVRowBinder.forClass(IndiaCensusCSV.class), validationPolicy)) {
+			this.checkHeader(csvFilePath, IndiaCensusCSV.class, CensusAnalyserException.ExceptionType.FILE_ERROR,
+					CSVBuilderException.ExceptionType.FILE_ERROR);
+			FastCSVBuilder.scan(Paths.get(csvFilePath), FastCSVBuilder.DEFAULT_MAPPING_SIZE, rowVisitor);
+			List<IndiaCensusCSV> censusCSVList = rowVisitor.getRows();
+			this.dispatchCensusRows(censusCSVList, statistics);
+			this.publishCensusTable(CensusTable.fromCensusList(censusCSVList), statistics);
+			ValidationReport validationReport = rowVisitor.getReport();
+			metrics.rejectedRows.increment(validationReport.rejectedRows);
+			loadMetrics.loaded(start, validationReport.numOfRows);
+			return validationReport;
+		} catch (IOException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
+			CensusAnalyserException.ExceptionType type = CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE;
+			if (e.type == CSVBuilderException.ExceptionType.FILE_ERROR) {
+				type = CensusAnalyserException.ExceptionType.FILE_ERROR;
+			} else if (e.type == CSVBuilderException.ExceptionType.CENSUS_FILE_PROBLEM) {
+				type = CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM;
+			}
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(), type));
+		} catch (CensusAnalyserException e) {
+			throw loadMetrics.failed(e);
+		} catch (RuntimeException e) {
+			metrics.parseError(CSVBuilderException.ExceptionType.FILE_ERROR);
+			throw loadMetrics.failed(
+					new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR));
+		}
+	}
+
+	private void checkHeader(String csvFilePath, Class<?> csvClass, CensusAnalyserException.ExceptionType headerError,
+			CSVBuilderException.ExceptionType parseError) throws IOException, CensusAnalyserException {
+		try {
+			FastCSVBuilder.bindHeader(Paths.get(csvFilePath), CSVRowBinder.forClass(csvClass));
+		} catch (CSVBuilderException e) {
+			metrics.parseError(parseError);
+			throw new CensusAnalyserException(e.getMessage(), headerError);
+		}
+	}
+
+	private CensusStatisticsCollector newStatisticsCollector() {
+		return collectCensusStatistics ? new CensusStatisticsCollector() : null;
+	}
+
+	private void dispatchCensusRows(List<IndiaCensusCSV> censusCSVList, CensusStatisticsCollector statistics) {
+		if (statistics == null) {
+			censusDispatcher.dispatch(censusCSVList.iterator());
+		} else {
+			censusDispatcher.dispatch(censusCSVList.iterator(), statistics);
+		}
+	}
+
+	private CensusTable publishCensusTable(CensusTable loadedTable, CensusStatisticsCollector statistics) {
+		loadedTable = loadedTable.withStorage(censusStorage);
+		SortIndexCache loadedIndexCache = new SortIndexCache(loadedTable, censusSorter);
+		if (eagerSortIndexing) {
+			loadedIndexCache.buildAll();
+		}
+		CensusStatistics censusStatistics = statistics == null ? null : statistics.summarize();
+		dataset.updateAndGet(current -> current.withCensusData(datasetVersions.incrementAndGet(), loadedIndexCache,
+				censusStatistics));
+		return loadedTable;
+	}
+
+	public CompletableFuture<Integer> reloadIndiaCensusDataAsync(String csvFilePath) {
+		CompletableFuture<Integer> result = new CompletableFuture<>();
+		reloadExecutor.execute(() -> {
+			try {
+				result.complete(this.loadIndiaCensusData(csvFilePath));
+			} catch (CensusAnalyserException | RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	public ReloadReport reloadIndiaCensusDataIncrementally(String csvFilePath) throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.incrementalReload;
+		long start = System.nanoTime();
+		try {
+			Path path = Paths.get(csvFilePath).toAbsolutePath();
+			IncrementalCensusLoader loader = incrementalCensusLoader;
+			if (loader == null || !loader.getCSVFilePath().equals(path)) {
+				loader = new IncrementalCensusLoader(path, censusSorter);
+				incrementalCensusLoader = loader;
+			}
+			while (true) {
+				CensusDataset base = dataset.get();
+				ReloadReport reloadReport = loader.reload(base.getSortIndexCache(), censusStorage);
+				if (reloadReport.fileChanged) {
+					SortIndexCache loadedIndexCache = loader.getSortIndexCache();
+					if (eagerSortIndexing) {
+						loadedIndexCache.buildAll();
+					}
+					CensusStatistics censusStatistics = collectCensusStatistics
+							? CensusStatisticsCollector.of(loadedIndexCache.getCensusTable()).summarize()
+							: null;
+					if (!this.publishReload(base, loadedIndexCache, censusStatistics)) {
+						continue;
+					}
+					censusDispatcher.dispatch(loader.getChangedRows().iterator());
+				}
+				loadMetrics.loaded(start, reloadReport.inserted + reloadReport.updated);
+				return reloadReport;
+			}
+		} catch (IOException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE));
+		} catch (RuntimeException e) {
+			throw loadMetrics.failed(
+					new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR));
+		}
+	}
+
+	private boolean publishReload(CensusDataset base, SortIndexCache loadedIndexCache,
+			CensusStatistics censusStatistics) {
+		for (CensusDataset current = base; current.getSortIndexCache() == base.getSortIndexCache();
+				current = dataset.get()) {
+			if (dataset.compareAndSet(current,
+					current.withCensusData(datasetVersions.incrementAndGet(), loadedIndexCache, censusStatistics))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public CompletableFuture<ReloadReport> reloadIndiaCensusDataIncrementallyAsync(String csvFilePath) {
+		CompletableFuture<ReloadReport> result = new CompletableFuture<>();
+		reloadExecutor.execute(() -> {
+			try {
+				result.complete(this.reloadIndiaCensusDataIncrementally(csvFilePath));
+			} catch (CensusAnalyserException | RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	public CensusFileWatcher watchIndiaCensusData(String csvFilePath,
+			BiConsumer<? super ReloadReport, ? super Throwable> listener) throws CensusAnalyserException {
+		try {
+			return new CensusFileWatcher(Paths.get(csvFilePath),
+					changed -> this.reloadIndiaCensusDataIncrementallyAsync(csvFilePath).whenComplete(listener));
+		} catch (IOException e) {
+			throw new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM);
+		}
+	}
+
+	public IngestionReport ingestIndiaCensusData(String directory, String glob, boolean append)
+			throws CensusAnalyserException {
+		List<String> csvFilePaths = new ArrayList<>();
+		try (DirectoryStream<Path> matches = Files.newDirectoryStream(Paths.get(directory), glob)) {
+			for (Path csvFilePath : matches) {
+				csvFilePaths.add(csvFilePath.toString());
+			}
+		} catch (IOException | RuntimeException e) {
+			throw metrics.batchIngestion.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		}
+		Collections.sort(csvFilePaths);
+		return this.ingestIndiaCensusData(csvFilePaths, append);
+	}
+
+	public IngestionReport ingestIndiaCensusData(List<String> csvFilePaths, boolean append)
+			throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.batchIngestion;
+		long start = System.nanoTime();
+		List<Path> paths = new ArrayList<>(csvFilePaths.size());
+		for (String csvFilePath : csvFilePaths) {
+			paths.add(Paths.get(csvFilePath));
+		}
+		List<IndiaCensusCSV> mergedRows = new ArrayList<>();
+		IngestionReport ingestionReport;
+		try {
+			ingestionReport = ingestionPipeline.ingest(paths, rows -> {
+				censusDispatcher.dispatch(rows.iterator());
+				mergedRows.addAll(rows);
+			}, collectCensusStatistics, csvBuilderType);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw loadMetrics.failed(new CensusAnalyserException("Ingestion was interrupted",
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM, e));
+		}
+		for (CensusAnalyserException fileError : ingestionReport.fileErrors.values()) {
+			loadMetrics.failed(fileError);
+		}
+		if (ingestionReport.filesLoaded > 0) {
+			this.publishCensusRows(mergedRows, append, ingestionReport.statistics);
+		}
+		loadMetrics.loaded(start, ingestionReport.numOfRows);
+		return ingestionReport;
+	}
+
+	private void publishCensusRows(List<IndiaCensusCSV> loadedRows, boolean append,
+			CensusStatistics loadedStatistics) {
+		while (true) {
+			CensusDataset current = dataset.get();
+			SortIndexCache loadedIndexCache;
+			CensusStatistics censusStatistics = loadedStatistics;
+			if (append && current.hasCensusData()) {
+				SortIndexCache currentIndexCache = current.getSortIndexCache();
+				int currentSize = currentIndexCache.getCensusTable().size();
+				int[] retainedRows = new int[currentSize];
+				for (int row = 0; row < currentSize; row++) {
+					retainedRows[row] = row;
+				}
+				CensusTable appendedTable = currentIndexCache.getCensusTable().patch(retainedRows, loadedRows);
+				loadedIndexCache = currentIndexCache.patch(appendedTable, retainedRows, currentSize);
+				if (loadedStatistics != null) {
+					censusStatistics = current.getCensusStatistics() != null
+							? current.getCensusStatistics().merge(loadedStatistics)
+							: CensusStatisticsCollector.of(appendedTable).summarize();
+				}
+			} else {
+				loadedIndexCache = new SortIndexCache(
+						CensusTable.fromCensusList(loadedRows).withStorage(censusStorage), censusSorter);
+			}
+			if (eagerSortIndexing) {
+				loadedIndexCache.buildAll();
+			}
+			if (dataset.compareAndSet(current,
+					current.withCensusData(datasetVersions.incrementAndGet(), loadedIndexCache, censusStatistics))) {
+				return;
+			}
+		}
+	}
+
+	public int streamIndiaCensusData(String csvFilePath, Consumer<? super IndiaCensusCSV> consumer)
+			throws CensusAnalyserException {
+		try {
+			this.checkHeader(csvFilePath, IndiaCensusCSV.class, CensusAnalyserException.ExceptionType.FILE_ERROR,
+					CSVBuilderException.ExceptionType.FILE_ERROR);
+			return this.streamCSV(csvFilePath, IndiaCensusCSV.class, censusDispatcher, consumer);
+		} catch (IOException e) {
+			throw new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM);
+		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
+			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE);
+		} catch (RuntimeException e) {
+			metrics.parseError(CSVBuilderException.ExceptionType.FILE_ERROR);
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
 		}
 	}
 
 	public int loadIndianStateCode(String csvFilePath) throws CensusAnalyserException {
-		try (Reader reader = Files.newBufferedReader(Paths.get(csvFilePath))) {
-			ICSVBuilder csvBuilder = CSVBuilderFactory.createCSVBuilder();
-			Iterator<IndiaStateCodeCSV> censusCSVIterator = csvBuilder.getCSVFileIterator(reader,
-					IndiaStateCodeCSV.class);
-			return this.getCount(censusCSVIterator);
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.stateCodeLoad;
+		long start = System.nanoTime();
+		try {
+			List<IndiaStateCodeCSV> loadedStateCodes = new ArrayList<>();
+			int numOfEnteries = this.streamIndianStateCode(csvFilePath, loadedStateCodes::add);
+			this.publishStateCodes(loadedStateCodes);
+			return loadMetrics.loaded(start, numOfEnteries);
+		} catch (CensusAnalyserException e) {
+			throw loadMetrics.failed(e);
+		}
+	}
+
+	public int loadIndianStateCode(String csvFilePath, String snapshotFilePath) throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.stateCodeLoad;
+		long start = System.nanoTime();
+		try {
+			Path snapshotPath = Paths.get(snapshotFilePath);
+			SourceFingerprint source = SourceFingerprint.of(Paths.get(csvFilePath));
+			List<IndiaStateCodeCSV> loadedStateCodes = CensusSnapshotFile.readStateCodes(snapshotPath, source);
+			if (loadedStateCodes == null) {
+				loadedStateCodes = new ArrayList<>();
+				this.streamIndianStateCode(csvFilePath, loadedStateCodes::add);
+				try {
+					CensusSnapshotFile.writeStateCodes(snapshotPath, loadedStateCodes, source);
+				} catch (IOException e) {
+					metrics.snapshotWriteFailures.increment(1);
+				}
+			}
+			this.publishStateCodes(loadedStateCodes);
+			return loadMetrics.loaded(start, loadedStateCodes.size());
+		} catch (IOException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		} catch (CensusAnalyserException e) {
+			throw loadMetrics.failed(e);
+		} catch (RuntimeException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.FILE_ERROR_IN_STATE_CODE));
+		}
+	}
+
+	private void publishStateCodes(List<IndiaStateCodeCSV> loadedStateCodes) {
+		List<IndiaStateCodeCSV> sortedStateCodes = new ArrayList<>(loadedStateCodes);
+		censusSorter.sort(sortedStateCodes, Comparator.comparing(census -> census.stateCode));
+		dataset.updateAndGet(current -> current.withStateCodes(datasetVersions.incrementAndGet(), loadedStateCodes,
+				sortedStateCodes));
+	}
+
+	public CompletableFuture<Integer> reloadIndianStateCodeAsync(String csvFilePath) {
+		CompletableFuture<Integer> result = new CompletableFuture<>();
+		reloadExecutor.execute(() -> {
+			try {
+				result.complete(this.loadIndianStateCode(csvFilePath));
+			} catch (CensusAnalyserException | RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	public int streamIndianStateCode(String csvFilePath, Consumer<? super IndiaStateCodeCSV> consumer)
+			throws CensusAnalyserException {
+		try {
+			this.checkHeader(csvFilePath, IndiaStateCodeCSV.class,
+					CensusAnalyserException.ExceptionType.FILE_ERROR_IN_STATE_CODE,
+					CSVBuilderException.ExceptionType.FILE_ERROR_IN_STATE_CODE);
+			return this.streamCSV(csvFilePath, IndiaStateCodeCSV.class, stateCodeDispatcher, consumer);
 		} catch (IOException e) {
 			throw new CensusAnalyserException(e.getMessage(),
 					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM);
 		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE);
 		} catch (RuntimeException e) {
+			metrics.parseError(CSVBuilderException.ExceptionType.FILE_ERROR_IN_STATE_CODE);
 			throw new CensusAnalyserException(e.getMessage(),
 					CensusAnalyserException.ExceptionType.FILE_ERROR_IN_STATE_CODE);
 		}
 	}
 
-	private <E> int getCount(Iterator<E> iterator) {
-		Iterable<E> csvIterable = () -> iterator;
-		int numOfEnteries = (int) StreamSupport.stream(csvIterable.spliterator(), false).count();
-		return numOfEnteries;
+	private <E> int streamCSV(String csvFilePath, Class<E> csvClass, CSVRecordDispatcher<E> dispatcher,
+			Consumer<? super E> consumer) throws IOException, CSVBuilderException {
+		if (csvBuilderType == CSVBuilderFactory.BuilderType.OPEN_CSV) {
+			try (Reader reader = Files.newBufferedReader(Paths.get(csvFilePath))) {
+				ICSVBuilder<E> csvBuilder = CSVBuilderFactory.createCSVBuilder(csvBuilderType);
+				return dispatcher.dispatch(csvBuilder.getCSVFileIterator(reader, csvClass), consumer);
+			}
+		}
+		Consumer<E> sink = dispatcher.sink(consumer);
+		int[] count = new int[1];
+		new FastCSVBuilder<E>().stream(Paths.get(csvFilePath), csvClass, record -> {
+			sink.accept(record);
+			count[0]++;
+		});
+		return count[0];
 	}
 
 	public String getStateWiseSortedCensusData() throws CensusAnalyserException {
-		if (censusCSVList == null || censusCSVList.size() == 0) {
-			throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
-		}
-		Comparator<IndiaCensusCSV> censusComparator = Comparator.comparing(census -> census.state);
-		this.smallestFirstSort(censusComparator);
-		String sortedStateCensusJson = new Gson().toJson(censusCSVList);
-		return sortedStateCensusJson;
+		return this.getSortedCensusJson(CensusColumn.STATE, SortOrder.ASCENDING);
 	}
 
 	public String getPopulationWiseSortedCensusData() throws CensusAnalyserException {
-		try (Writer writer = new FileWriter("./src/test/resources/IndiaStatePopulationDataJson.json")) {
-			if (censusCSVList == null || censusCSVList.size() == 0) {
-				throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
-			}
-			Comparator<IndiaCensusCSV> censusComparator = Comparator.comparing(census -> census.population);
-			this.largesetFirstSort(censusComparator);
-			String sortedStateCensusJson = new Gson().toJson(censusCSVList);
-			Gson gson = new GsonBuilder().create();
-			gson.toJson(censusCSVList, writer);
-			return sortedStateCensusJson;
-		} catch (RuntimeException | IOException e) {
+		return this.getSortedCensusJson(CensusColumn.POPULATION, SortOrder.DESCENDING);
+	}
+
+	public String getDensityPerSqKmWiseSortedCensusData() throws CensusAnalyserException {
+		return this.getSortedCensusJson(CensusColumn.DENSITY_PER_SQ_KM, SortOrder.DESCENDING);
+	}
+
+	public String getAreaInSqKmWiseSortedCensusData() throws CensusAnalyserException {
+		return this.getSortedCensusJson(CensusColumn.AREA_IN_SQ_KM, SortOrder.DESCENDING);
+	}
+
+	private String getSortedCensusJson(CensusColumn column, SortOrder order) throws CensusAnalyserException {
+		SortIndexCache indexCache = this.getLoadedSortIndexCache();
+		try {
+			return censusJsonSerializer.toJson(indexCache, column, order);
+		} catch (IOException e) {
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
 		}
 	}
 
-	public String getDensityPerSqKmWiseSortedCensusData() throws CensusAnalyserException {
-		try (Writer writer = new FileWriter("./src/test/resources/IndiaCensusDensityPerSqKmDataJson.json")) {
-			if (censusCSVList == null || censusCSVList.size() == 0) {
-				throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
-			}
-			Comparator<IndiaCensusCSV> censusComparator = Comparator.comparing(census -> census.densityPerSqKm);
-			this.largesetFirstSort(censusComparator);
-			String sortedStateCensusJson = new Gson().toJson(censusCSVList);
-			Gson gson = new GsonBuilder().create();
-			gson.toJson(censusCSVList, writer);
-			return sortedStateCensusJson;
-		} catch (RuntimeException | IOException e) {
+	public void writeSortedCensusData(CensusColumn column, SortOrder order, Writer writer)
+			throws CensusAnalyserException {
+		SortIndexCache indexCache = this.getLoadedSortIndexCache();
+		try {
+			censusJsonSerializer.write(indexCache, column, order, writer);
+		} catch (IOException e) {
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
 		}
 	}
 
-	public String getAreaInSqKmWiseSortedCensusData() throws CensusAnalyserException {
-		try (Writer writer = new FileWriter("./src/test/resources/IndiaCensusAreaInSqKmDataJson.json")) {
-			if (censusCSVList == null || censusCSVList.size() == 0) {
-				throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
-			}
-			Comparator<IndiaCensusCSV> censusComparator = Comparator.comparing(census -> census.areaInSqKm);
-			this.largesetFirstSort(censusComparator);
-			String sortedStateCensusJson = new Gson().toJson(censusCSVList);
-			Gson gson = new GsonBuilder().create();
-			gson.toJson(censusCSVList, writer);
-			return sortedStateCensusJson;
-		} catch (RuntimeException | IOException e) {
+	public void writeSortedCensusData(CensusColumn column, SortOrder order, OutputStream outputStream)
+			throws CensusAnalyserException {
+		SortIndexCache indexCache = this.getLoadedSortIndexCache();
+		try {
+			censusJsonSerializer.write(indexCache, column, order, outputStream);
+		} catch (IOException e) {
 			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
 		}
 	}
 
-	public void smallestFirstSort(Comparator<IndiaCensusCSV> censusComparator) {
-		for (int i = 0; i < censusCSVList.size() - 1; i++) {
-			for (int j = 0; j < censusCSVList.size() - 1 - i; j++) {
-				IndiaCensusCSV census1 = censusCSVList.get(j);
-				IndiaCensusCSV census2 = censusCSVList.get(j + 1);
-				if (censusComparator.compare(census1, census2) > 0) {
-					censusCSVList.set(j, census2);
-					censusCSVList.set(j + 1, census1);
-				}
-			}
+	public List<IndiaCensusCSV> topK(CensusColumn column, int k, SortOrder order) throws CensusAnalyserException {
+		return CensusQueries.topK(this.getLoadedSortIndexCache(), column, k, order);
+	}
+
+	public CensusPage range(CensusColumn column, int low, int high, int offset, int limit)
+			throws CensusAnalyserException {
+		return CensusQueries.range(this.getLoadedSortIndexCache(), column, low, high, offset, limit);
+	}
+
+	public CompletableFuture<Path> exportSortedCensusData(ExportJob exportJob) throws CensusAnalyserException {
+		MetricsRegistry.Histogram exportLatency = metrics.exportLatency;
+		long start = System.nanoTime();
+		CompletableFuture<Path> export = censusExporter.submit(this.getLoadedSortIndexCache(), exportJob);
+		export.whenComplete((destination, failure) -> exportLatency.record(System.nanoTime() - start));
+		return export;
+	}
+
+	private SortIndexCache getLoadedSortIndexCache() throws CensusAnalyserException {
+		CensusDataset currentDataset = dataset.get();
+		if (!currentDataset.hasCensusData()) {
+			throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
 		}
+		return currentDataset.getSortIndexCache();
 	}
 
-	public void largesetFirstSort(Comparator<IndiaCensusCSV> censusComparator) {
-		for (int i = 0; i < censusCSVList.size() - 1; i++) {
-			for (int j = 0; j < censusCSVList.size() - 1 - i; j++) {
-				IndiaCensusCSV census1 = censusCSVList.get(j);
-				IndiaCensusCSV census2 = censusCSVList.get(j + 1);
-				if (censusComparator.compare(census1, census2) < 0) {
-					censusCSVList.set(j, census2);
-					censusCSVList.set(j + 1, census1);
-				}
-			}
+	public CensusStatistics getCensusStatistics() throws CensusAnalyserException {
+		CensusDataset currentDataset = dataset.get();
+		if (!currentDataset.hasCensusData()) {
+			throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		if (currentDataset.getCensusStatistics() == null) {
+			throw new CensusAnalyserException("No Census Statistics", CensusAnalyserException.ExceptionType.NO_DATA);
 		}
+		return currentDataset.getCensusStatistics();
 	}
 
 	public String getStateCodeWiseSortedData() throws CensusAnalyserException {
-		if (stateCodeCSVList == null || stateCodeCSVList.size() == 0) {
+		CensusDataset currentDataset = dataset.get();
+		if (!currentDataset.hasStateCodes()) {
 			throw new CensusAnalyserException("No Data", CensusAnalyserException.ExceptionType.NO_DATA);
 		}
-		Comparator<IndiaStateCodeCSV> censusComparator = Comparator.comparing(census -> census.stateCode);
-		this.sortStateCode(censusComparator);
-		String sortedStateCensusJson = new Gson().toJson(stateCodeCSVList);
+		String sortedStateCensusJson = CensusJsonSerializer.GSON.toJson(currentDataset.getStateCodesSortedByCode());
 		return sortedStateCensusJson;
 	}
 
 	public void sortStateCode(Comparator<IndiaStateCodeCSV> censusComparator) {
-		for (int i = 0; i < stateCodeCSVList.size() - 1; i++) {
-			for (int j = 0; j < stateCodeCSVList.size() - 1 - i; j++) {
-				IndiaStateCodeCSV census1 = stateCodeCSVList.get(j);
-				IndiaStateCodeCSV census2 = stateCodeCSVList.get(j + 1);
-				if (censusComparator.compare(census1, census2) > 0) {
-					stateCodeCSVList.set(j, census2);
-					stateCodeCSVList.set(j + 1, census1);
-				}
-			}
+		dataset.updateAndGet(current -> current.withStateCodes(datasetVersions.incrementAndGet(),
+				sortStateCodes(current, censusComparator), current.getStateCodesSortedByCode()));
+	}
+
+	public List<IndiaStateCodeCSV> getSortedStateCodes(Comparator<IndiaStateCodeCSV> censusComparator) {
+		return sortStateCodes(dataset.get(), censusComparator);
+	}
+
+	private List<IndiaStateCodeCSV> sortStateCodes(CensusDataset currentDataset,
+			Comparator<IndiaStateCodeCSV> censusComparator) {
+		List<IndiaStateCodeCSV> sortedStateCodes = new ArrayList<>(currentDataset.getStateCodes());
+		censusSorter.sort(sortedStateCodes, censusComparator);
+		return sortedStateCodes;
+	}
+
+	public List<StateCensusJoinRow> joinCensusWithStateCode(JoinType joinType) throws CensusAnalyserException {
+		CensusDataset currentDataset = dataset.get();
+		if (!currentDataset.hasCensusData()) {
+			throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		if (!currentDataset.hasStateCodes()) {
+			throw new CensusAnalyserException("No State Code Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		return StateCensusJoiner.join(currentDataset.getCensusTable(), currentDataset.getStateCodeIndex(), joinType);
+	}
+
+	public String getStateCodeJoinedCensusData(JoinType joinType) throws CensusAnalyserException {
+		return CensusJsonSerializer.GSON.toJson(this.joinCensusWithStateCode(joinType));
+	}
+
+	public List<CensusAggregate> aggregateCensusData(CensusGrouping grouping, JoinType joinType)
+			throws CensusAnalyserException {
+		CensusDataset currentDataset = dataset.get();
+		if (!currentDataset.hasCensusData()) {
+			throw new CensusAnalyserException("No Census Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		if (grouping != CensusGrouping.NATIONAL && !currentDataset.hasStateCodes()) {
+			throw new CensusAnalyserException("No State Code Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		MetricsRegistry.Histogram aggregateLatency = metrics.aggregateLatency;
+		long start = System.nanoTime();
+		List<CensusAggregate> aggregates = censusAggregator.aggregate(currentDataset.getCensusTable(),
+				currentDataset.getStateCodeIndex(), grouping, joinType);
+		aggregateLatency.record(System.nanoTime() - start);
+		return aggregates;
+	}
+
+	public String getGroupedCensusData(CensusGrouping grouping, JoinType joinType) throws CensusAnalyserException {
+		return CensusJsonSerializer.GSON.toJson(this.aggregateCensusData(grouping, joinType));
+	}
+
+	public int loadDatasetTable(String csvFilePath, DatasetSchema schema) throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.datasetTableLoad;
+		long start = System.nanoTime();
+		try {
+			DatasetTable datasetTable = datasetLoader.load(Paths.get(csvFilePath), schema);
+			dataset.updateAndGet(current -> current.withDatasetTable(datasetVersions.incrementAndGet(), datasetTable));
+			return loadMetrics.loaded(start, datasetTable.size());
+		} catch (IOException e) {
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
+		} catch (CSVBuilderException e) {
+			metrics.parseError(e.type);
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE));
+		} catch (RuntimeException e) {
+			throw loadMetrics.failed(
+					new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR));
+		}
+	}
+
+	public DatasetTable getDatasetTable(String name) throws CensusAnalyserException {
+		DatasetTable datasetTable = dataset.get().getDatasetTable(name);
+		if (datasetTable == null || datasetTable.size() == 0) {
+			throw new CensusAnalyserException("No Data for " + name, CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		return datasetTable;
+	}
+
+	public String getSortedDatasetData(String name, String columnName, SortOrder order)
+			throws CensusAnalyserException {
+		DatasetTable datasetTable = this.getDatasetTable(name);
+		return this.toJson(datasetTable, datasetTable.getSortIndex(datasetTable.columnIndex(columnName), order));
+	}
+
+	public String getTopKDatasetData(String name, String columnName, int k, SortOrder order)
+			throws CensusAnalyserException {
+		DatasetTable datasetTable = this.getDatasetTable(name);
+		return this.toJson(datasetTable, datasetTable.topK(datasetTable.columnIndex(columnName), k, order));
+	}
+
+	private String toJson(DatasetTable datasetTable, int[] order) throws CensusAnalyserException {
+		try {
+			return DatasetJsonSerializer.toJson(datasetTable, order);
+		} catch (IOException e) {
+			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
 		}
 	}
 
 	public int loadIndiaCensusAndStateCodeInCommonsCSV(String csvFilePath) throws CensusAnalyserException {
+		return this.loadIndiaCensusAndStateCodeInCommonsCSV(csvFilePath, csvRecord -> {
+		});
+	}
+
+	public int loadIndiaCensusAndStateCodeInCommonsCSV(String csvFilePath, Consumer<? super CSVRecord> consumer)
+			throws CensusAnalyserException {
+		CensusAnalyserMetrics.LoadMetrics loadMetrics = metrics.commonsCSVLoad;
+		long start = System.nanoTime();
 		try (Reader reader = Files.newBufferedReader(Paths.get(csvFilePath));) {
 			Iterator<CSVRecord> csvRecords = CSVFormat.DEFAULT.withFirstRecordAsHeader().withIgnoreHeaderCase().withTrim()
 					.parse(reader).iterator();
-			return this.getCount(csvRecords);
+			return loadMetrics.loaded(start, commonsCSVDispatcher.dispatch(csvRecords, consumer));
 		} catch (IOException e) {
-			throw new CensusAnalyserException(e.getMessage(),
-					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM);
+			throw loadMetrics.failed(new CensusAnalyserException(e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM));
 		} catch (RuntimeException e) {
-			throw new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR);
+			metrics.parseError(CSVBuilderException.ExceptionType.FILE_ERROR);
+			throw loadMetrics.failed(
+					new CensusAnalyserException(e.getMessage(), CensusAnalyserException.ExceptionType.FILE_ERROR));
 		}
 	}
 }
@@ -0,0 +1,62 @@
+package censusanalyser;
+
+class CensusAnalyserMetrics {
+
+	final MetricsRegistry metricsRegistry;
+	final LoadMetrics censusLoad;
+	final LoadMetrics stateCodeLoad;
+	final LoadMetrics commonsCSVLoad;
+	final LoadMetrics incrementalReload;
+	final LoadMetrics datasetTableLoad;
+	final LoadMetrics batchIngestion;
+	final MetricsRegistry.Histogram exportLatency;
+	final MetricsRegistry.Histogram aggregateLatency;
+	final MetricsRegistry.Counter rejectedRows;
+	final MetricsRegistry.Counter snapshotWriteFailures;
+
+	CensusAnalyserMetrics(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry = metricsRegistry;
+		this.censusLoad = new LoadMetrics(metricsRegistry, "loadIndiaCensusData");
+		this.stateCodeLoad = new LoadMetrics(metricsRegistry, "loadIndianStateCode");
+		this.commonsCSVLoad = new LoadMetrics(metricsRegistry, "loadIndiaCensusAndStateCodeInCommonsCSV");
+		this.incrementalReload = new LoadMetrics(metricsRegistry, "reloadIndiaCensusDataIncrementally");
+		this.datasetTableLoad = new LoadMetrics(metricsRegistry, "loadDatasetTable");
+		this.batchIngestion = new LoadMetrics(metricsRegistry, "ingestIndiaCensusData");
+		this.exportLatency = metricsRegistry.histogram("export.nanos");
+		this.aggregateLatency = metricsRegistry.histogram("aggregate.nanos");
+		this.rejectedRows = metricsRegistry.counter("validation.rejectedRows");
+		this.snapshotWriteFailures = metricsRegistry.counter("snapshot.writeFailures");
+	}
+
+	void parseError(CSVBuilderException.ExceptionType type) {
+		metricsRegistry.counter("parseErrors." + type).increment(1);
+	}
+
+	static class LoadMetrics {
+
+		private final MetricsRegistry.Histogram latency;
+		private final MetricsRegistry.Histogram rowsPerSecond;
+		private final MetricsRegistry.Counter rows;
+		private final MetricsRegistry.Counter errors;
+
+		LoadMetrics(MetricsRegistry metricsRegistry, String method) {
+			this.latency = metricsRegistry.histogram("load." + method + ".nanos");
+			this.rowsPerSecond = metricsRegistry.histogram("load." + method + ".rowsPerSecond");
+			this.rows = metricsRegistry.counter("load." + method + ".rows");
+			this.errors = metricsRegistry.counter("load." + method + ".errors");
+		}
+
+		int loaded(long start, int numOfRows) {
+			long elapsedNanos = Math.max(1, System.nanoTime() - start);
+			latency.record(elapsedNanos);
+			rows.increment(numOfRows);
+			rowsPerSecond.record(numOfRows * 1_000_000_000L / elapsedNanos);
+			return numOfRows;
+		}
+
+		CensusAnalyserException failed(CensusAnalyserException e) {
+			errors.increment(1);
+			return e;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package censusanalyser;
+
+public enum CensusColumn {
+	STATE, POPULATION, AREA_IN_SQ_KM, DENSITY_PER_SQ_KM
+}
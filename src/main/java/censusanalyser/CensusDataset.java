@@ -0,0 +1,94 @@
+package censusanalyser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CensusDataset {
+
+	static final CensusDataset EMPTY = new CensusDataset(0, null, null, Collections.emptyList(),
+			Collections.emptyList(), new StateCodeIndex(Collections.emptyList()), Collections.emptyMap());
+
+	private final long version;
+	private final SortIndexCache sortIndexCache;
+	private final CensusStatistics censusStatistics;
+	private final List<IndiaStateCodeCSV> stateCodes;
+	private final List<IndiaStateCodeCSV> stateCodesSortedByCode;
+	private final StateCodeIndex stateCodeIndex;
+	private final Map<String, DatasetTable> datasetTables;
+
+	private CensusDataset(long version, SortIndexCache sortIndexCache, CensusStatistics censusStatistics,
+			List<IndiaStateCodeCSV> stateCodes, List<IndiaStateCodeCSV> stateCodesSortedByCode,
+			StateCodeIndex stateCodeIndex, Map<String, DatasetTable> datasetTables) {
+		this.version = version;
+		this.sortIndexCache = sortIndexCache;
+		this.censusStatistics = censusStatistics;
+		this.stateCodes = stateCodes;
+		this.stateCodesSortedByCode = stateCodesSortedByCode;
+		this.stateCodeIndex = stateCodeIndex;
+		this.datasetTables = datasetTables;
+	}
+
+	CensusDataset withCensusData(long version, SortIndexCache sortIndexCache, CensusStatistics censusStatistics) {
+		return new CensusDataset(version, sortIndexCache, censusStatistics, stateCodes, stateCodesSortedByCode,
+				stateCodeIndex, datasetTables);
+	}
+
+	CensusDataset withStateCodes(long version, List<IndiaStateCodeCSV> stateCodes,
+			List<IndiaStateCodeCSV> stateCodesSortedByCode) {
+		return new CensusDataset(version, sortIndexCache, censusStatistics, Collections.unmodifiableList(stateCodes),
+				Collections.unmodifiableList(stateCodesSortedByCode), new StateCodeIndex(stateCodes), datasetTables);
+	}
+
+	CensusDataset withDatasetTable(long version, DatasetTable datasetTable) {
+		Map<String, DatasetTable> tables = new HashMap<>(datasetTables);
+		tables.put(datasetTable.getSchema().getName(), datasetTable);
+		return new CensusDataset(version, sortIndexCache, censusStatistics, stateCodes, stateCodesSortedByCode,
+				stateCodeIndex, Collections.unmodifiableMap(tables));
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public boolean hasCensusData() {
+		return sortIndexCache != null && sortIndexCache.getCensusTable().size() > 0;
+	}
+
+	public boolean hasStateCodes() {
+		return !stateCodes.isEmpty();
+	}
+
+	public SortIndexCache getSortIndexCache() {
+		return sortIndexCache;
+	}
+
+	public CensusTable getCensusTable() {
+		return sortIndexCache == null ? null : sortIndexCache.getCensusTable();
+	}
+
+	public CensusStatistics getCensusStatistics() {
+		return censusStatistics;
+	}
+
+	public List<IndiaStateCodeCSV> getStateCodes() {
+		return stateCodes;
+	}
+
+	public List<IndiaStateCodeCSV> getStateCodesSortedByCode() {
+		return stateCodesSortedByCode;
+	}
+
+	public StateCodeIndex getStateCodeIndex() {
+		return stateCodeIndex;
+	}
+
+	public DatasetTable getDatasetTable(String name) {
+		return datasetTables.get(name);
+	}
+
+	public Map<String, DatasetTable> getDatasetTables() {
+		return datasetTables;
+	}
+}
@@ -0,0 +1,114 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CensusExporter implements AutoCloseable {
+
+	public static final int DEFAULT_THREADS = 2;
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+	private static final String CSV_HEADER = "State,Population,AreaInSqKm,DensityPerSqKm";
+
+	private final CensusJsonSerializer censusJsonSerializer;
+	private final ThreadPoolExecutor executor;
+
+	public CensusExporter(CensusJsonSerializer censusJsonSerializer) {
+		this(censusJsonSerializer, DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public CensusExporter(CensusJsonSerializer censusJsonSerializer, int threads, int queueCapacity) {
+		this.censusJsonSerializer = censusJsonSerializer;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "census-export-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	public CompletableFuture<Path> submit(SortIndexCache sortIndexCache, ExportJob exportJob) {
+		CompletableFuture<Path> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					result.complete(this.export(sortIndexCache, exportJob));
+				} catch (IOException | RuntimeException e) {
+					result.completeExceptionally(new CensusAnalyserException(e.getMessage(),
+							CensusAnalyserException.ExceptionType.FILE_ERROR, e));
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(new CensusAnalyserException("Export queue is full",
+					CensusAnalyserException.ExceptionType.FILE_ERROR, e));
+		}
+		return result;
+	}
+
+	private Path export(SortIndexCache sortIndexCache, ExportJob exportJob) throws IOException {
+		Path destination = exportJob.destination.toAbsolutePath();
+		Path directory = destination.getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, destination.getFileName().toString(), ".tmp");
+		try {
+			try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				if (exportJob.format == ExportFormat.CSV) {
+					this.writeCSV(sortIndexCache, exportJob, writer);
+				} else {
+					censusJsonSerializer.write(sortIndexCache, exportJob.column, exportJob.order, writer);
+				}
+			}
+			try {
+				Files.move(tempFile, destination, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, destination, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return destination;
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private void writeCSV(SortIndexCache sortIndexCache, ExportJob exportJob, Writer writer) throws IOException {
+		CensusTable censusTable = sortIndexCache.getCensusTable();
+		writer.write(CSV_HEADER);
+		writer.write('\n');
+		for (int row : sortIndexCache.getSortIndex(exportJob.column, exportJob.order)) {
+			writer.write(this.quote(censusTable.getState(row)));
+			writer.write(',');
+			writer.write(Integer.toString(censusTable.getPopulation(row)));
+			writer.write(',');
+			writer.write(Integer.toString(censusTable.getAreaInSqKm(row)));
+			writer.write(',');
+			writer.write(Integer.toString(censusTable.getDensityPerSqKm(row)));
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	private String quote(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
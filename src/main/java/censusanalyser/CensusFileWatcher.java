@@ -0,0 +1,93 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class CensusFileWatcher implements AutoCloseable {
+
+	public static final long DEFAULT_SETTLE_MILLIS = 250;
+
+	private final Path csvFilePath;
+	private final long settleNanos;
+	private final WatchService watchService;
+	private final Thread watchThread;
+
+	public CensusFileWatcher(Path csvFilePath, Consumer<Path> onChange) throws IOException {
+		this(csvFilePath, DEFAULT_SETTLE_MILLIS, onChange);
+	}
+
+	public CensusFileWatcher(Path csvFilePath, long settleMillis, Consumer<Path> onChange) throws IOException {
+		if (settleMillis <= 0) {
+			throw new IllegalArgumentException("settleMillis must be positive: " + settleMillis);
+		}
+		this.csvFilePath = csvFilePath.toAbsolutePath();
+		this.settleNanos = TimeUnit.MILLISECONDS.toNanos(settleMillis);
+		Path directory = this.csvFilePath.getParent();
+		this.watchService = FileSystems.getDefault().newWatchService();
+		directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		this.watchThread = new Thread(() -> this.watch(onChange), "census-watch");
+		this.watchThread.setDaemon(true);
+		this.watchThread.start();
+	}
+
+	public Path getCSVFilePath() {
+		return csvFilePath;
+	}
+
+	private void watch(Consumer<Path> onChange) {
+		Path fileName = csvFilePath.getFileName();
+		long settleDeadline = 0;
+		SourceFingerprint observed = null;
+		try {
+			while (true) {
+				WatchKey watchKey = settleDeadline == 0 ? watchService.take()
+						: watchService.poll(Math.max(0, settleDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				if (watchKey != null) {
+					for (WatchEvent<?> event : watchKey.pollEvents()) {
+						if (fileName.equals(event.context())) {
+							settleDeadline = System.nanoTime() + settleNanos;
+						}
+					}
+					watchKey.reset();
+					continue;
+				}
+				SourceFingerprint current = this.fingerprint();
+				if (current == null) {
+					settleDeadline = 0;
+					observed = null;
+				} else if (current.equals(observed)) {
+					settleDeadline = 0;
+					observed = null;
+					onChange.accept(csvFilePath);
+				} else {
+					settleDeadline = System.nanoTime() + settleNanos;
+					observed = current;
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private SourceFingerprint fingerprint() {
+		try {
+			return SourceFingerprint.of(csvFilePath);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		watchThread.interrupt();
+	}
+}
@@ -0,0 +1,5 @@
+package censusanalyser;
+
+public enum CensusGrouping {
+	NATIONAL, REGION, STATE_CODE
+}
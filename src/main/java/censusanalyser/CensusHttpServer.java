@@ -0,0 +1,304 @@
+package censusanalyser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class CensusHttpServer implements AutoCloseable {
+
+	public static final int DEFAULT_THREADS = 4;
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+	public static final int RETRY_AFTER_SECONDS = 1;
+	public static final int OVERFLOW_THREADS = 2;
+
+	private final CensusAnalyser censusAnalyser;
+	private final CensusJsonSerializer censusJsonSerializer = new CensusJsonSerializer();
+	private final HttpServer httpServer;
+	private final ThreadPoolExecutor executor;
+	private final ThreadPoolExecutor overflowExecutor;
+	private final MetricsRegistry.Counter notModified;
+	private final MetricsRegistry.Counter rejected;
+	private final ThreadLocal<Boolean> overflow = new ThreadLocal<>();
+
+	public CensusHttpServer(CensusAnalyser censusAnalyser, InetSocketAddress address) throws IOException {
+		this(censusAnalyser, address, DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public CensusHttpServer(CensusAnalyser censusAnalyser, InetSocketAddress address, int threads,
+			int queueCapacity) throws IOException {
+		this.censusAnalyser = censusAnalyser;
+		MetricsRegistry metricsRegistry = censusAnalyser.getMetricsRegistry();
+		censusJsonSerializer.setMetricsRegistry(metricsRegistry);
+		this.notModified = metricsRegistry.counter("http.notModified");
+		this.rejected = metricsRegistry.counter("http.rejected");
+		this.overflowExecutor = new ThreadPoolExecutor(OVERFLOW_THREADS, OVERFLOW_THREADS, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), daemonThreads("census-http-overflow-"));
+		overflowExecutor.allowCoreThreadTimeOut(true);
+		this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), daemonThreads("census-http-"),
+				(runnable, pool) -> overflowExecutor.execute(() -> this.rejectOverflow(runnable)));
+		this.httpServer = HttpServer.create(address, queueCapacity);
+		httpServer.setExecutor(executor);
+		this.route("/census/sorted", metricsRegistry, this::sorted);
+		this.route("/census/top", metricsRegistry, this::top);
+		this.route("/census/join", metricsRegistry, this::join);
+	}
+
+	public CensusHttpServer start() {
+		httpServer.start();
+		return this;
+	}
+
+	public InetSocketAddress getAddress() {
+		return httpServer.getAddress();
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+		executor.shutdown();
+		overflowExecutor.shutdown();
+	}
+
+	private static ThreadFactory daemonThreads(String namePrefix) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private void rejectOverflow(Runnable exchangeTask) {
+		rejected.increment(1);
+		overflow.set(Boolean.TRUE);
+		try {
+			exchangeTask.run();
+		} finally {
+			overflow.remove();
+		}
+	}
+
+	private void route(String path, MetricsRegistry metricsRegistry, View view) {
+		MetricsRegistry.Histogram latency = metricsRegistry.histogram("http." + path.substring(1).replace('/', '.')
+				+ ".nanos");
+		httpServer.createContext(path, exchange -> {
+			long start = System.nanoTime();
+			try {
+				this.handle(exchange, view);
+				exchange.close();
+			} finally {
+				latency.record(System.nanoTime() - start);
+			}
+		});
+	}
+
+	private void handle(HttpExchange exchange, View view) throws IOException {
+		if (overflow.get() != null) {
+			exchange.getResponseHeaders().set("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+			this.sendError(exchange, 503, "Server is busy");
+			return;
+		}
+		try {
+			if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+				this.sendError(exchange, 405, "Only GET and HEAD are supported");
+				return;
+			}
+			CensusDataset dataset = censusAnalyser.getDataset();
+			if (!dataset.hasCensusData()) {
+				this.sendError(exchange, 404, "No Census Data");
+				return;
+			}
+			Map<String, String> query = this.parseQuery(exchange.getRequestURI().getRawQuery());
+			this.respond(exchange, dataset.getVersion(), view.body(dataset, query));
+		} catch (IllegalArgumentException e) {
+			this.fail(exchange, 400, e);
+		} catch (CensusAnalyserException e) {
+			this.fail(exchange, 404, e);
+		}
+	}
+
+	private void fail(HttpExchange exchange, int status, Exception e) throws IOException {
+		if (exchange.getResponseCode() != -1) {
+			throw new IOException("Response failed after its headers were sent", e);
+		}
+		this.sendError(exchange, status, e.getMessage());
+	}
+
+	private ResponseBody sorted(CensusDataset dataset, Map<String, String> query) {
+		CensusColumn column = parseEnum(CensusColumn.class, query, "column", CensusColumn.STATE);
+		SortOrder order = parseEnum(SortOrder.class, query, "order", SortOrder.ASCENDING);
+		return outputStream -> censusJsonSerializer.write(dataset.getSortIndexCache(), column, order, outputStream);
+	}
+
+	private ResponseBody top(CensusDataset dataset, Map<String, String> query) {
+		CensusColumn column = parseEnum(CensusColumn.class, query, "column", CensusColumn.POPULATION);
+		SortOrder order = parseEnum(SortOrder.class, query, "order", SortOrder.DESCENDING);
+		int k = Integer.parseInt(query.getOrDefault("k", "10"));
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		return outputStream -> this.writeJson(CensusQueries.topK(dataset.getSortIndexCache(), column, k, order),
+				outputStream);
+	}
+
+	private ResponseBody join(CensusDataset dataset, Map<String, String> query) throws CensusAnalyserException {
+		JoinType joinType = parseEnum(JoinType.class, query, "type", JoinType.INNER);
+		if (!dataset.hasStateCodes()) {
+			throw new CensusAnalyserException("No State Code Data", CensusAnalyserException.ExceptionType.NO_DATA);
+		}
+		return outputStream -> this.writeJson(
+				StateCensusJoiner.join(dataset.getCensusTable(), dataset.getStateCodeIndex(), joinType), outputStream);
+	}
+
+	private void writeJson(Object value, OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		CensusJsonSerializer.GSON.toJson(value, writer);
+		writer.flush();
+	}
+
+	private void respond(HttpExchange exchange, long version, ResponseBody body) throws IOException {
+		String etag = "W/\"" + version + "\"";
+		Headers responseHeaders = exchange.getResponseHeaders();
+		responseHeaders.set("ETag", etag);
+		responseHeaders.set("Cache-Control", "no-cache");
+		responseHeaders.set("Vary", "Accept-Encoding");
+		if (matchesETag(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+			notModified.increment(1);
+			exchange.sendResponseHeaders(304, -1);
+			return;
+		}
+		responseHeaders.set("Content-Type", "application/json; charset=utf-8");
+		boolean gzip = acceptsGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+		if (gzip) {
+			responseHeaders.set("Content-Encoding", "gzip");
+		}
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(200, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(200, 0);
+		try (OutputStream outputStream = gzip ? new GZIPOutputStream(exchange.getResponseBody(), 8192)
+				: exchange.getResponseBody()) {
+			body.write(outputStream);
+		}
+	}
+
+	private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		byte[] body;
+		try (StringWriter writer = new StringWriter()) {
+			JsonWriter jsonWriter = new JsonWriter(writer);
+			jsonWriter.beginObject().name("status").value(status).name("error").value(message).endObject();
+			jsonWriter.flush();
+			body = writer.toString().getBytes(StandardCharsets.UTF_8);
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+	}
+
+	private Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return query;
+		}
+		for (String parameter : rawQuery.split("&")) {
+			int separator = parameter.indexOf('=');
+			String name = separator < 0 ? parameter : parameter.substring(0, separator);
+			String value = separator < 0 ? "" : parameter.substring(separator + 1);
+			query.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+		}
+		return query;
+	}
+
+	static <T extends Enum<T>> T parseEnum(Class<T> type, Map<String, String> query, String name, T defaultValue) {
+		String value = query.get(name);
+		if (value == null || value.isEmpty()) {
+			return defaultValue;
+		}
+		try {
+			return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown " + name + ": " + value);
+		}
+	}
+
+	static boolean matchesETag(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if (candidate.equals("*")) {
+				return true;
+			}
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+				continue;
+			}
+			for (int parameter = 1; parameter < parts.length; parameter++) {
+				String[] qValue = parts[parameter].trim().split("=");
+				if (qValue.length == 2 && qValue[0].trim().equals("q") && Double.parseDouble(qValue[1].trim()) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private interface View {
+
+		ResponseBody body(CensusDataset dataset, Map<String, String> query)
+				throws CensusAnalyserException, IOException;
+	}
+
+	private interface ResponseBody {
+
+		void write(OutputStream outputStream) throws IOException;
+	}
+}
@@ -0,0 +1,245 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class CensusIngestionPipeline {
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+	private static final FileWork END_OF_STAGE = new FileWork(null);
+
+	private final int readWorkers;
+	private final int parseWorkers;
+	private final int validateWorkers;
+	private final int queueCapacity;
+
+	public CensusIngestionPipeline() {
+		this(1, Runtime.getRuntime().availableProcessors(), 1, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public CensusIngestionPipeline(int readWorkers, int parseWorkers, int validateWorkers, int queueCapacity) {
+		if (readWorkers < 1 || parseWorkers < 1 || validateWorkers < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Worker counts and queue capacity must be positive");
+		}
+		this.readWorkers = readWorkers;
+		this.parseWorkers = parseWorkers;
+		this.validateWorkers = validateWorkers;
+		this.queueCapacity = queueCapacity;
+	}
+
+	public IngestionReport ingest(List<Path> csvFilePaths, Consumer<List<IndiaCensusCSV>> merger)
+			throws InterruptedException {
+		return this.ingest(csvFilePaths, merger, false);
+	}
+
+	public IngestionReport ingest(List<Path> csvFilePaths, Consumer<List<IndiaCensusCSV>> merger,
+			boolean collectStatistics) throws InterruptedException {
+		return this.ingest(csvFilePaths, merger, collectStatistics, CSVBuilderFactory.BuilderType.FAST);
+	}
+
+	public IngestionReport ingest(List<Path> csvFilePaths, Consumer<List<IndiaCensusCSV>> merger,
+			boolean collectStatistics, CSVBuilderFactory.BuilderType builderType) throws InterruptedException {
+		long start = System.nanoTime();
+		BlockingQueue<FileWork> parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+		BlockingQueue<FileWork> validateQueue = new ArrayBlockingQueue<>(queueCapacity);
+		BlockingQueue<FileWork> mergeQueue = new ArrayBlockingQueue<>(queueCapacity);
+		AtomicInteger nextPath = new AtomicInteger();
+		List<Thread> workers = new ArrayList<>();
+		Stage readStage = new Stage(readWorkers, parseQueue, parseWorkers);
+		for (int worker = 0; worker < readWorkers; worker++) {
+			workers.add(readStage.start("census-ingest-read-" + worker, () -> {
+				int index;
+				while ((index = nextPath.getAndIncrement()) < csvFilePaths.size()) {
+					FileWork work = new FileWork(csvFilePaths.get(index));
+					read(work, builderType);
+					parseQueue.put(work);
+				}
+			}));
+		}
+		Stage parseStage = new Stage(parseWorkers, validateQueue, validateWorkers);
+		for (int worker = 0; worker < parseWorkers; worker++) {
+			workers.add(parseStage.start("census-ingest-parse-" + worker,
+					() -> parseStage.drain(parseQueue, work -> parse(work, builderType))));
+		}
+		Stage validateStage = new Stage(validateWorkers, mergeQueue, 1);
+		for (int worker = 0; worker < validateWorkers; worker++) {
+			workers.add(validateStage.start("census-ingest-validate-" + worker,
+					() -> validateStage.drain(validateQueue, work -> validate(work, collectStatistics))));
+		}
+		int filesLoaded = 0;
+		int numOfRows = 0;
+		Map<Path, CensusAnalyserException> fileErrors = new TreeMap<>();
+		CensusStatisticsCollector statistics = collectStatistics ? new CensusStatisticsCollector() : null;
+		try {
+			for (FileWork work = mergeQueue.take(); work != END_OF_STAGE; work = mergeQueue.take()) {
+				if (work.error == null) {
+					try {
+						merger.accept(work.rows);
+						filesLoaded++;
+						numOfRows += work.rows.size();
+						if (statistics != null) {
+							statistics.merge(work.statistics);
+						}
+					} catch (RuntimeException e) {
+						work.error = new CensusAnalyserException(e.getMessage(),
+								CensusAnalyserException.ExceptionType.FILE_ERROR, e);
+					}
+				}
+				if (work.error != null) {
+					fileErrors.put(work.csvFilePath, work.error);
+				}
+			}
+		} finally {
+			for (Thread worker : workers) {
+				worker.interrupt();
+			}
+		}
+		return new IngestionReport(csvFilePaths.size(), filesLoaded, numOfRows, fileErrors,
+				System.nanoTime() - start, statistics == null ? null : statistics.summarize());
+	}
+
+	private static void read(FileWork work, CSVBuilderFactory.BuilderType builderType) {
+		if (builderType != CSVBuilderFactory.BuilderType.FAST) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(work.csvFilePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size <= FastCSVBuilder.DEFAULT_MAPPING_SIZE) {
+				work.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).load();
+			}
+		} catch (IOException e) {
+			work.error = new CensusAnalyserException(work.csvFilePath + ": " + e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM, e);
+		}
+	}
+
+	private static void parse(FileWork work, CSVBuilderFactory.BuilderType builderType) {
+		try {
+			if (work.buffer != null) {
+				work.rows = new FastCSVBuilder<IndiaCensusCSV>().getCSVFileList(work.buffer, IndiaCensusCSV.class);
+			} else {
+				FastCSVBuilder.bindHeader(work.csvFilePath, CSVRowBinder.forClass(IndiaCensusCSV.class));
+				ICSVBuilder<IndiaCensusCSV> csvBuilder = CSVBuilderFactory.createCSVBuilder(builderType);
+				work.rows = csvBuilder.getCSVFileList(work.csvFilePath, IndiaCensusCSV.class);
+			}
+		} catch (IOException e) {
+			work.error = new CensusAnalyserException(work.csvFilePath + ": " + e.getMessage(),
+					CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM, e);
+		} catch (CSVBuilderException e) {
+			work.error = new CensusAnalyserException(work.csvFilePath + ": " + e.getMessage(),
+					CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE, e);
+		} catch (RuntimeException e) {
+			work.error = new CensusAnalyserException(work.csvFilePath + ": " + e.getMessage(),
+					CensusAnalyserException.ExceptionType.FILE_ERROR, e);
+		} finally {
+			work.buffer = null;
+		}
+	}
+
+	private static void validate(FileWork work, boolean collectStatistics) {
+		CensusStatisticsCollector statistics = collectStatistics ? new CensusStatisticsCollector() : null;
+		for (int record = 0; record < work.rows.size(); record++) {
+			IndiaCensusCSV censusCSV = work.rows.get(record);
+			String problem = null;
+			if (censusCSV.state == null || censusCSV.state.trim().isEmpty()) {
+				problem = "State is empty";
+			} else if (censusCSV.population < 0) {
+				problem = "Population is negative";
+			} else if (censusCSV.areaInSqKm <= 0) {
+				problem = "AreaInSqKm is not positive";
+			} else if (censusCSV.densityPerSqKm < 0) {
+				problem = "DensityPerSqKm is negative";
+			}
+			if (problem != null) {
+				work.rows = null;
+				work.error = new CensusAnalyserException(work.csvFilePath + ": Record " + (record + 1) + ": "
+						+ problem, CensusAnalyserException.ExceptionType.FILE_ERROR);
+				return;
+			}
+			if (statistics != null) {
+				statistics.accept(censusCSV);
+			}
+		}
+		work.statistics = statistics;
+	}
+
+	private interface StageTask {
+
+		void run() throws InterruptedException;
+	}
+
+	private static class Stage {
+
+		private final AtomicInteger activeWorkers;
+		private final BlockingQueue<FileWork> output;
+		private final int downstreamWorkers;
+
+		Stage(int workers, BlockingQueue<FileWork> output, int downstreamWorkers) {
+			this.activeWorkers = new AtomicInteger(workers);
+			this.output = output;
+			this.downstreamWorkers = downstreamWorkers;
+		}
+
+		Thread start(String name, StageTask task) {
+			Thread thread = new Thread(() -> {
+				try {
+					task.run();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					this.finish();
+				}
+			}, name);
+			thread.setDaemon(true);
+			thread.start();
+			return thread;
+		}
+
+		void drain(BlockingQueue<FileWork> input, Consumer<FileWork> step) throws InterruptedException {
+			for (FileWork work = input.take(); work != END_OF_STAGE; work = input.take()) {
+				if (work.error == null) {
+					step.accept(work);
+				}
+				output.put(work);
+			}
+		}
+
+		private void finish() {
+			if (activeWorkers.decrementAndGet() > 0) {
+				return;
+			}
+			try {
+				for (int worker = 0; worker < downstreamWorkers; worker++) {
+					output.put(END_OF_STAGE);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static class FileWork {
+
+		private final Path csvFilePath;
+		private ByteBuffer buffer;
+		private List<IndiaCensusCSV> rows;
+		private CensusStatisticsCollector statistics;
+		private CensusAnalyserException error;
+
+		FileWork(Path csvFilePath) {
+			this.csvFilePath = csvFilePath;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package censusanalyser;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+public class CensusJsonSerializer {
+
+	public static final Gson GSON = new Gson();
+	public static final int DEFAULT_MAX_CACHED_ROWS = 100000;
+
+	private final int maxCachedRows;
+	private final ConcurrentHashMap<ResponseKey, byte[]> responseCache = new ConcurrentHashMap<>();
+	private volatile long cachedVersion;
+	private volatile MetricsRegistry.Histogram serializeLatency = MetricsRegistry.NO_OP_HISTOGRAM;
+	private volatile MetricsRegistry.Counter cacheHits = MetricsRegistry.NO_OP_COUNTER;
+	private volatile MetricsRegistry.Counter cacheMisses = MetricsRegistry.NO_OP_COUNTER;
+
+	public CensusJsonSerializer() {
+		this(DEFAULT_MAX_CACHED_ROWS);
+	}
+
+	public CensusJsonSerializer(int maxCachedRows) {
+		this.maxCachedRows = maxCachedRows;
+	}
+
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+		this.serializeLatency = metricsRegistry.histogram("serialize.json.nanos");
+		this.cacheHits = metricsRegistry.counter("serialize.json.cacheHits");
+		this.cacheMisses = metricsRegistry.counter("serialize.json.cacheMisses");
+	}
+
+	public void write(CensusTable censusTable, int[] order, Writer writer) throws IOException {
+		long start = System.nanoTime();
+		JsonWriter jsonWriter = new JsonWriter(writer);
+		jsonWriter.setHtmlSafe(true);
+		jsonWriter.setSerializeNulls(false);
+		jsonWriter.beginArray();
+		for (int row : order) {
+			jsonWriter.beginObject();
+			jsonWriter.name("state").value(censusTable.getState(row));
+			jsonWriter.name("population").value(censusTable.getPopulation(row));
+			jsonWriter.name("areaInSqKm").value(censusTable.getAreaInSqKm(row));
+			jsonWriter.name("densityPerSqKm").value(censusTable.getDensityPerSqKm(row));
+			jsonWriter.endObject();
+		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+		serializeLatency.record(System.nanoTime() - start);
+	}
+
+	public void write(SortIndexCache sortIndexCache, CensusColumn column, SortOrder order, Writer writer)
+			throws IOException {
+		byte[] cached = this.getCachedJson(sortIndexCache, column, order);
+		if (cached != null) {
+			Reader reader = new InputStreamReader(new ByteArrayInputStream(cached), StandardCharsets.UTF_8);
+			char[] buffer = new char[8192];
+			for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+				writer.write(buffer, 0, read);
+			}
+			writer.flush();
+			return;
+		}
+		this.write(sortIndexCache.getCensusTable(), sortIndexCache.getSortIndex(column, order), writer);
+	}
+
+	public void write(SortIndexCache sortIndexCache, CensusColumn column, SortOrder order, OutputStream outputStream)
+			throws IOException {
+		byte[] cached = this.getCachedJson(sortIndexCache, column, order);
+		if (cached != null) {
+			outputStream.write(cached);
+			outputStream.flush();
+			return;
+		}
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		this.write(sortIndexCache.getCensusTable(), sortIndexCache.getSortIndex(column, order), writer);
+	}
+
+	public String toJson(SortIndexCache sortIndexCache, CensusColumn column, SortOrder order) throws IOException {
+		byte[] cached = this.getCachedJson(sortIndexCache, column, order);
+		if (cached != null) {
+			return new String(cached, StandardCharsets.UTF_8);
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		this.write(sortIndexCache, column, order, outputStream);
+		return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private byte[] getCachedJson(SortIndexCache sortIndexCache, CensusColumn column, SortOrder order)
+			throws IOException {
+		CensusTable censusTable = sortIndexCache.getCensusTable();
+		if (censusTable.size() > maxCachedRows) {
+			return null;
+		}
+		long version = censusTable.getVersion();
+		if (cachedVersion != version) {
+			responseCache.keySet().removeIf(key -> key.version != version);
+			cachedVersion = version;
+		}
+		ResponseKey key = new ResponseKey(version, column, order);
+		byte[] cached = responseCache.get(key);
+		if (cached != null) {
+			cacheHits.increment(1);
+		} else {
+			cacheMisses.increment(1);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			this.write(censusTable, sortIndexCache.getSortIndex(column, order), writer);
+			cached = outputStream.toByteArray();
+			byte[] previous = responseCache.putIfAbsent(key, cached);
+			if (previous != null) {
+				cached = previous;
+			}
+		}
+		return cached;
+	}
+
+	private static class ResponseKey {
+
+		private final long version;
+		private final CensusColumn column;
+		private final SortOrder order;
+
+		ResponseKey(long version, CensusColumn column, SortOrder order) {
+			this.version = version;
+			this.column = column;
+			this.order = order;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof ResponseKey)) {
+				return false;
+			}
+			ResponseKey key = (ResponseKey) other;
+			return version == key.version && column == key.column && order == key.order;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (version * 31 + column.ordinal()) * 31 + order.ordinal();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package censusanalyser;
+
+import java.util.List;
+
+public class CensusPage {
+
+	public final List<IndiaCensusCSV> rows;
+	public final int offset;
+	public final int limit;
+	public final int total;
+
+	public CensusPage(List<IndiaCensusCSV> rows, int offset, int limit, int total) {
+		this.rows = rows;
+		this.offset = offset;
+		this.limit = limit;
+		this.total = total;
+	}
+
+	public boolean hasNext() {
+		return offset + rows.size() < total;
+	}
+
+	@Override
+	public String toString() {
+		return "CensusPage [offset=" + offset + ", limit=" + limit + ", total=" + total + ", rows=" + rows + "]";
+	}
+}
@@ -0,0 +1,115 @@
+package censusanalyser;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CensusQueries {
+
+	private CensusQueries() {
+	}
+
+	public static List<IndiaCensusCSV> topK(SortIndexCache sortIndexCache, CensusColumn column, int k,
+			SortOrder order) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		CensusTable censusTable = sortIndexCache.getCensusTable();
+		int limit = Math.min(k, censusTable.size());
+		if (sortIndexCache.isCached(column, order)) {
+			int[] sortIndex = sortIndexCache.getSortIndex(column, order);
+			return censusTable.toCensusList(Arrays.copyOf(sortIndex, limit));
+		}
+		return censusTable.toCensusList(selectTopK(censusTable.getSortKeys(column), limit,
+				order == SortOrder.DESCENDING));
+	}
+
+	static int[] selectTopK(int[] keys, int k, boolean descending) {
+		long[] heap = new long[k];
+		int size = 0;
+		for (int row = 0; row < keys.length && k > 0; row++) {
+			long candidate = rank(keys[row], row, descending);
+			if (size < k) {
+				heap[size] = candidate;
+				siftUp(heap, size++);
+			} else if (candidate < heap[0]) {
+				heap[0] = candidate;
+				siftDown(heap, 0, size);
+			}
+		}
+		Arrays.sort(heap, 0, size);
+		int[] rows = new int[size];
+		for (int index = 0; index < size; index++) {
+			rows[index] = (int) heap[index];
+		}
+		return rows;
+	}
+
+	private static long rank(int key, int row, boolean descending) {
+		return (long) (descending ? ~key : key) << 32 | row;
+	}
+
+	private static void siftUp(long[] heap, int index) {
+		long value = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (heap[parent] >= value) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = value;
+	}
+
+	private static void siftDown(long[] heap, int index, int size) {
+		long value = heap[index];
+		while (true) {
+			int child = 2 * index + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && heap[child + 1] > heap[child]) {
+				child++;
+			}
+			if (heap[child] <= value) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = value;
+	}
+
+	public static CensusPage range(SortIndexCache sortIndexCache, CensusColumn column, int low, int high, int offset,
+			int limit) {
+		if (column == CensusColumn.STATE) {
+			throw new IllegalArgumentException("Range queries need a numeric column");
+		}
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("offset and limit must not be negative");
+		}
+		CensusTable censusTable = sortIndexCache.getCensusTable();
+		int[] sortIndex = sortIndexCache.getSortIndex(column, SortOrder.ASCENDING);
+		int from = lowerBound(censusTable, column, sortIndex, low);
+		int to = high == Integer.MAX_VALUE ? sortIndex.length : lowerBound(censusTable, column, sortIndex, high + 1);
+		int total = Math.max(0, to - from);
+		int pageStart = from + Math.min(offset, total);
+		int pageEnd = (int) Math.min((long) pageStart + limit, to);
+		int[] pageRows = pageEnd > pageStart ? Arrays.copyOfRange(sortIndex, pageStart, pageEnd) : new int[0];
+		return new CensusPage(censusTable.toCensusList(pageRows), offset, limit, total);
+	}
+
+	private static int lowerBound(CensusTable censusTable, CensusColumn column, int[] sortIndex, int value) {
+		int low = 0;
+		int high = sortIndex.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (censusTable.getSortKey(column, sortIndex[middle]) < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,225 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class CensusSnapshotFile {
+
+	public static final int MAGIC = 0x53534E43;
+	public static final int FORMAT_VERSION = 1;
+
+	private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8;
+	private static final int CHECKSUM_SIZE = 4;
+	private static final long MAX_SNAPSHOT_SIZE = Integer.MAX_VALUE - 8;
+
+	enum SnapshotType {
+		CENSUS, STATE_CODE
+	}
+
+	private CensusSnapshotFile() {
+	}
+
+	public static void writeCensus(Path snapshotPath, CensusTable censusTable, SourceFingerprint source)
+			throws IOException {
+		int size = censusTable.size();
+		String[] dictionary = new String[censusTable.getStateDictionarySize()];
+		for (int stateId = 0; stateId < dictionary.length; stateId++) {
+			dictionary[stateId] = censusTable.getDictionaryState(stateId);
+		}
+		byte[][] encodedDictionary = encode(dictionary);
+		ByteBuffer buffer = allocate(encodedDictionary, 4 + (long) size * 16);
+		writeHeader(buffer, SnapshotType.CENSUS, source, encodedDictionary);
+		buffer.putInt(size);
+		for (int row = 0; row < size; row++) {
+			buffer.putInt(censusTable.getStateId(row));
+		}
+		for (int row = 0; row < size; row++) {
+			buffer.putInt(censusTable.getPopulation(row));
+		}
+		for (int row = 0; row < size; row++) {
+			buffer.putInt(censusTable.getAreaInSqKm(row));
+		}
+		for (int row = 0; row < size; row++) {
+			buffer.putInt(censusTable.getDensityPerSqKm(row));
+		}
+		write(snapshotPath, buffer);
+	}
+
+	public static CensusTable readCensus(Path snapshotPath, SourceFingerprint source) throws IOException {
+		ByteBuffer buffer = map(snapshotPath, SnapshotType.CENSUS, source);
+		if (buffer == null) {
+			return null;
+		}
+		String[] dictionary = readDictionary(buffer);
+		int size = buffer.getInt();
+		IntBuffer columns = buffer.asIntBuffer();
+		int[] stateIds = new int[size];
+		int[] population = new int[size];
+		int[] areaInSqKm = new int[size];
+		int[] densityPerSqKm = new int[size];
+		columns.get(stateIds).get(population).get(areaInSqKm).get(densityPerSqKm);
+		return new CensusTable(dictionary, stateIds, population, areaInSqKm, densityPerSqKm);
+	}
+
+	public static void writeStateCodes(Path snapshotPath, List<IndiaStateCodeCSV> stateCodes,
+			SourceFingerprint source) throws IOException {
+		Map<String, Integer> dictionaryIds = new HashMap<>();
+		List<String> dictionary = new ArrayList<>();
+		int[] stateIds = new int[stateCodes.size()];
+		int[] stateCodeIds = new int[stateCodes.size()];
+		for (int row = 0; row < stateCodes.size(); row++) {
+			stateIds[row] = dictionaryId(stateCodes.get(row).state, dictionaryIds, dictionary);
+			stateCodeIds[row] = dictionaryId(stateCodes.get(row).stateCode, dictionaryIds, dictionary);
+		}
+		byte[][] encodedDictionary = encode(dictionary.toArray(new String[0]));
+		ByteBuffer buffer = allocate(encodedDictionary, 4 + (long) stateCodes.size() * 8);
+		writeHeader(buffer, SnapshotType.STATE_CODE, source, encodedDictionary);
+		buffer.putInt(stateCodes.size());
+		buffer.asIntBuffer().put(stateIds).put(stateCodeIds);
+		buffer.position(buffer.position() + stateCodes.size() * 8);
+		write(snapshotPath, buffer);
+	}
+
+	public static List<IndiaStateCodeCSV> readStateCodes(Path snapshotPath, SourceFingerprint source)
+			throws IOException {
+		ByteBuffer buffer = map(snapshotPath, SnapshotType.STATE_CODE, source);
+		if (buffer == null) {
+			return null;
+		}
+		String[] dictionary = readDictionary(buffer);
+		int size = buffer.getInt();
+		int[] stateIds = new int[size];
+		int[] stateCodeIds = new int[size];
+		buffer.asIntBuffer().get(stateIds).get(stateCodeIds);
+		List<IndiaStateCodeCSV> stateCodes = new ArrayList<>(size);
+		for (int row = 0; row < size; row++) {
+			IndiaStateCodeCSV stateCodeCSV = new IndiaStateCodeCSV();
+			stateCodeCSV.state = stateIds[row] < 0 ? null : dictionary[stateIds[row]];
+			stateCodeCSV.stateCode = stateCodeIds[row] < 0 ? null : dictionary[stateCodeIds[row]];
+			stateCodes.add(stateCodeCSV);
+		}
+		return stateCodes;
+	}
+
+	private static int dictionaryId(String value, Map<String, Integer> dictionaryIds, List<String> dictionary) {
+		if (value == null) {
+			return -1;
+		}
+		Integer id = dictionaryIds.get(value);
+		if (id == null) {
+			id = dictionary.size();
+			dictionaryIds.put(value, id);
+			dictionary.add(value);
+		}
+		return id;
+	}
+
+	private static byte[][] encode(String[] dictionary) {
+		byte[][] encoded = new byte[dictionary.length][];
+		for (int id = 0; id < dictionary.length; id++) {
+			encoded[id] = dictionary[id].getBytes(StandardCharsets.UTF_8);
+		}
+		return encoded;
+	}
+
+	private static ByteBuffer allocate(byte[][] encodedDictionary, long payloadSize) throws IOException {
+		long size = HEADER_SIZE + 4 + payloadSize + CHECKSUM_SIZE;
+		for (byte[] value : encodedDictionary) {
+			size += 4 + value.length;
+		}
+		if (size > MAX_SNAPSHOT_SIZE) {
+			throw new IOException("Snapshot of " + size + " bytes exceeds the " + MAX_SNAPSHOT_SIZE
+					+ "-byte snapshot limit");
+		}
+		return ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static void writeHeader(ByteBuffer buffer, SnapshotType type, SourceFingerprint source,
+			byte[][] encodedDictionary) {
+		buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(type.ordinal());
+		buffer.putLong(source.size).putLong(source.lastModified);
+		buffer.putInt(encodedDictionary.length);
+		for (byte[] value : encodedDictionary) {
+			buffer.putInt(value.length).put(value);
+		}
+	}
+
+	private static String[] readDictionary(ByteBuffer buffer) {
+		String[] dictionary = new String[buffer.getInt()];
+		for (int id = 0; id < dictionary.length; id++) {
+			byte[] value = new byte[buffer.getInt()];
+			buffer.get(value);
+			dictionary[id] = new String(value, StandardCharsets.UTF_8);
+		}
+		return dictionary;
+	}
+
+	private static void write(Path snapshotPath, ByteBuffer buffer) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update(buffer.array(), 0, buffer.position());
+		buffer.putInt((int) checksum.getValue());
+		buffer.flip();
+		Path directory = Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+		Path tempFile = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(true);
+			}
+			try {
+				Files.move(tempFile, snapshotPath, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static ByteBuffer map(Path snapshotPath, SnapshotType type, SourceFingerprint source)
+			throws IOException {
+		MappedByteBuffer mapped;
+		try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+				return null;
+			}
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		} catch (IOException e) {
+			return null;
+		}
+		ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getInt() != type.ordinal()
+				|| buffer.getLong() != source.size || buffer.getLong() != source.lastModified) {
+			return null;
+		}
+		int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+		ByteBuffer content = buffer.duplicate();
+		content.position(0).limit(checksumPosition);
+		CRC32 checksum = new CRC32();
+		checksum.update(content);
+		if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+			return null;
+		}
+		buffer.limit(checksumPosition);
+		return buffer;
+	}
+}
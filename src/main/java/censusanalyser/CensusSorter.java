@@ -0,0 +1,174 @@
+package censusanalyser;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+public class CensusSorter {
+
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+	private volatile SortStrategy strategy;
+	private volatile int parallelThreshold;
+	private volatile SortReport lastSortReport;
+	private volatile MetricsRegistry.Histogram[] sortLatencies = noOpSortLatencies();
+
+	public CensusSorter() {
+		this(SortStrategy.AUTO, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	public CensusSorter(SortStrategy strategy, int parallelThreshold) {
+		this.strategy = strategy;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public SortStrategy getStrategy() {
+		return strategy;
+	}
+
+	public void setStrategy(SortStrategy strategy) {
+		this.strategy = strategy;
+	}
+
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+		MetricsRegistry.Histogram[] latencies = new MetricsRegistry.Histogram[SortStrategy.values().length];
+		for (SortStrategy sortStrategy : SortStrategy.values()) {
+			latencies[sortStrategy.ordinal()] = metricsRegistry.histogram("sort." + sortStrategy + ".nanos");
+		}
+		this.sortLatencies = latencies;
+	}
+
+	private static MetricsRegistry.Histogram[] noOpSortLatencies() {
+		MetricsRegistry.Histogram[] latencies = new MetricsRegistry.Histogram[SortStrategy.values().length];
+		Arrays.fill(latencies, MetricsRegistry.NO_OP_HISTOGRAM);
+		return latencies;
+	}
+
+	public SortReport getLastSortReport() {
+		return lastSortReport;
+	}
+
+	public <E> SortReport sort(List<E> list, Comparator<? super E> comparator) {
+		long start = System.nanoTime();
+		SortStrategy selected = this.selectStrategy(list.size(), false);
+		if (selected == SortStrategy.PARALLEL_SORT) {
+			this.parallelSort(list, comparator);
+		} else {
+			list.sort(comparator);
+		}
+		return this.report(selected, list.size(), start);
+	}
+
+	public int[] sortIndex(int[] keys, boolean descending) {
+		long start = System.nanoTime();
+		SortStrategy selected = this.selectStrategy(keys.length, true);
+		int[] order;
+		if (selected == SortStrategy.RADIX_SORT) {
+			order = radixSortIndex(keys, descending);
+		} else {
+			order = this.packedSortIndex(keys, descending, selected == SortStrategy.PARALLEL_SORT);
+		}
+		this.report(selected, keys.length, start);
+		return order;
+	}
+
+	private SortStrategy selectStrategy(int size, boolean hasIntKey) {
+		SortStrategy selected = strategy;
+		if (selected == SortStrategy.AUTO) {
+			if (size < parallelThreshold) {
+				return hasIntKey ? SortStrategy.QUICK_SORT : SortStrategy.TIM_SORT;
+			}
+			selected = hasIntKey ? SortStrategy.RADIX_SORT : SortStrategy.PARALLEL_SORT;
+		}
+		if (hasIntKey) {
+			return selected == SortStrategy.TIM_SORT ? SortStrategy.QUICK_SORT : selected;
+		}
+		if (selected == SortStrategy.RADIX_SORT) {
+			return size < parallelThreshold ? SortStrategy.TIM_SORT : SortStrategy.PARALLEL_SORT;
+		}
+		return selected == SortStrategy.QUICK_SORT ? SortStrategy.TIM_SORT : selected;
+	}
+
+	private SortReport report(SortStrategy selected, int size, long start) {
+		SortReport sortReport = new SortReport(selected, size, System.nanoTime() - start);
+		sortLatencies[selected.ordinal()].record(sortReport.elapsedNanos);
+		lastSortReport = sortReport;
+		return sortReport;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E> void parallelSort(List<E> list, Comparator<? super E> comparator) {
+		E[] elements = (E[]) list.toArray();
+		Arrays.parallelSort(elements, comparator);
+		this.writeBack(list, elements);
+	}
+
+	private int[] packedSortIndex(int[] keys, boolean descending, boolean parallel) {
+		long[] packed = new long[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			packed[i] = (long) (descending ? ~keys[i] : keys[i]) << 32 | i;
+		}
+		if (parallel) {
+			Arrays.parallelSort(packed);
+		} else {
+			Arrays.sort(packed);
+		}
+		int[] order = new int[keys.length];
+		for (int i = 0; i < packed.length; i++) {
+			order[i] = (int) packed[i];
+		}
+		return order;
+	}
+
+	private <E> void writeBack(List<E> list, E[] elements) {
+		ListIterator<E> iterator = list.listIterator();
+		for (E element : elements) {
+			iterator.next();
+			iterator.set(element);
+		}
+	}
+
+	public static int[] radixSortIndex(int[] keys, boolean descending) {
+		int size = keys.length;
+		int[] order = new int[size];
+		int[] buffer = new int[size];
+		int[] sortKeys = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+			sortKeys[i] = descending ? ~(keys[i] ^ Integer.MIN_VALUE) : keys[i] ^ Integer.MIN_VALUE;
+		}
+		if (size == 0) {
+			return order;
+		}
+		int[] counts = new int[256];
+		for (int shift = 0; shift < 32; shift += 8) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < size; i++) {
+				counts[(sortKeys[i] >>> shift) & 0xFF]++;
+			}
+			if (counts[(sortKeys[0] >>> shift) & 0xFF] == size) {
+				continue;
+			}
+			for (int i = 1; i < 256; i++) {
+				counts[i] += counts[i - 1];
+			}
+			for (int i = size - 1; i >= 0; i--) {
+				int index = order[i];
+				buffer[--counts[(sortKeys[index] >>> shift) & 0xFF]] = index;
+			}
+			int[] swap = order;
+			order = buffer;
+			buffer = swap;
+		}
+		return order;
+	}
+}
@@ -0,0 +1,42 @@
+package censusanalyser;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class CensusStatistics {
+
+	public final long numOfRows;
+	public final long distinctStates;
+	private final Map<CensusColumn, ColumnSummary> columns;
+	private final CensusStatisticsCollector sketches;
+
+	CensusStatistics(long numOfRows, long distinctStates, Map<CensusColumn, ColumnSummary> columns,
+			CensusStatisticsCollector sketches) {
+		this.numOfRows = numOfRows;
+		this.distinctStates = distinctStates;
+		this.columns = Collections.unmodifiableMap(columns);
+		this.sketches = sketches;
+	}
+
+	public ColumnSummary getColumn(CensusColumn column) {
+		ColumnSummary columnSummary = columns.get(column);
+		if (columnSummary == null) {
+			throw new IllegalArgumentException("No numeric statistics for column " + column);
+		}
+		return columnSummary;
+	}
+
+	public Map<CensusColumn, ColumnSummary> getColumns() {
+		return columns;
+	}
+
+	public CensusStatistics merge(CensusStatistics other) {
+		return sketches.copy().merge(other.sketches).summarize();
+	}
+
+	@Override
+	public String toString() {
+		return "CensusStatistics [numOfRows=" + numOfRows + ", distinctStates=" + distinctStates + ", columns="
+				+ columns.values() + "]";
+	}
+}
@@ -0,0 +1,74 @@
+package censusanalyser;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class CensusStatisticsCollector implements Consumer<IndiaCensusCSV> {
+
+	private long numOfRows;
+	private final DistinctCountSketch states;
+	private final ColumnSketch population;
+	private final ColumnSketch areaInSqKm;
+	private final ColumnSketch densityPerSqKm;
+
+	CensusStatisticsCollector() {
+		this(new DistinctCountSketch(), new ColumnSketch(), new ColumnSketch(), new ColumnSketch());
+	}
+
+	private CensusStatisticsCollector(DistinctCountSketch states, ColumnSketch population, ColumnSketch areaInSqKm,
+			ColumnSketch densityPerSqKm) {
+		this.states = states;
+		this.population = population;
+		this.areaInSqKm = areaInSqKm;
+		this.densityPerSqKm = densityPerSqKm;
+	}
+
+	static CensusStatisticsCollector of(CensusTable censusTable) {
+		CensusStatisticsCollector collector = new CensusStatisticsCollector();
+		for (int row = 0; row < censusTable.size(); row++) {
+			collector.accept(censusTable.getState(row), censusTable.getPopulation(row),
+					censusTable.getAreaInSqKm(row), censusTable.getDensityPerSqKm(row));
+		}
+		return collector;
+	}
+
+	@Override
+	public void accept(IndiaCensusCSV censusCSV) {
+		this.accept(censusCSV.state, censusCSV.population, censusCSV.areaInSqKm, censusCSV.densityPerSqKm);
+	}
+
+	private void accept(String state, int population, int areaInSqKm, int densityPerSqKm) {
+		numOfRows++;
+		if (state != null) {
+			states.add(state);
+		}
+		this.population.accept(population);
+		this.areaInSqKm.accept(areaInSqKm);
+		this.densityPerSqKm.accept(densityPerSqKm);
+	}
+
+	CensusStatisticsCollector merge(CensusStatisticsCollector other) {
+		numOfRows += other.numOfRows;
+		states.merge(other.states);
+		population.merge(other.population);
+		areaInSqKm.merge(other.areaInSqKm);
+		densityPerSqKm.merge(other.densityPerSqKm);
+		return this;
+	}
+
+	CensusStatisticsCollector copy() {
+		CensusStatisticsCollector copy = new CensusStatisticsCollector(states.copy(), population.copy(),
+				areaInSqKm.copy(), densityPerSqKm.copy());
+		copy.numOfRows = numOfRows;
+		return copy;
+	}
+
+	CensusStatistics summarize() {
+		Map<CensusColumn, ColumnSummary> columns = new EnumMap<>(CensusColumn.class);
+		columns.put(CensusColumn.POPULATION, population.summarize(CensusColumn.POPULATION));
+		columns.put(CensusColumn.AREA_IN_SQ_KM, areaInSqKm.summarize(CensusColumn.AREA_IN_SQ_KM));
+		columns.put(CensusColumn.DENSITY_PER_SQ_KM, densityPerSqKm.summarize(CensusColumn.DENSITY_PER_SQ_KM));
+		return new CensusStatistics(numOfRows, Math.min(states.estimate(), numOfRows), columns, this.copy());
+	}
+}
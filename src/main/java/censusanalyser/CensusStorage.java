@@ -0,0 +1,36 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public enum CensusStorage {
+	HEAP, OFF_HEAP, MEMORY_MAPPED;
+
+	ByteBuffer allocate(long bytes) {
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Column of " + bytes + " bytes does not fit in one buffer");
+		}
+		switch (this) {
+		case OFF_HEAP:
+			return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+		case MEMORY_MAPPED:
+			try {
+				Path columnFile = Files.createTempFile("census-column", ".bin");
+				try (FileChannel channel = FileChannel.open(columnFile, StandardOpenOption.READ,
+						StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+					return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.nativeOrder());
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		default:
+			throw new IllegalStateException(this + " columns live in int arrays");
+		}
+	}
+}
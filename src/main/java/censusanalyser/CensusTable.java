@@ -0,0 +1,211 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CensusTable {
+
+	private static final AtomicLong VERSIONS = new AtomicLong();
+
+	private final long version;
+	private final int size;
+	private final StringDictionary stateDictionary;
+	private final IntColumn stateIds;
+	private final IntColumn stateRanks;
+	private final IntColumn population;
+	private final IntColumn areaInSqKm;
+	private final IntColumn densityPerSqKm;
+
+	CensusTable(String[] stateDictionary, int[] stateIds, int[] population, int[] areaInSqKm,
+			int[] densityPerSqKm) {
+		this(StringDictionary.of(stateDictionary), IntColumn.of(stateIds), IntColumn.of(population),
+				IntColumn.of(areaInSqKm), IntColumn.of(densityPerSqKm));
+	}
+
+	CensusTable(StringDictionary stateDictionary, IntColumn stateIds, IntColumn population, IntColumn areaInSqKm,
+			IntColumn densityPerSqKm) {
+		this.version = VERSIONS.incrementAndGet();
+		this.size = stateIds.size();
+		this.stateDictionary = stateDictionary;
+		this.stateIds = stateIds;
+		this.population = population;
+		this.areaInSqKm = areaInSqKm;
+		this.densityPerSqKm = densityPerSqKm;
+		this.stateRanks = this.rankStates();
+	}
+
+	public static CensusTable fromCensusList(List<IndiaCensusCSV> censusCSVList) {
+		int size = censusCSVList.size();
+		Map<String, Integer> dictionaryIds = new HashMap<>();
+		List<String> dictionary = new ArrayList<>();
+		int[] stateIds = new int[size];
+		int[] population = new int[size];
+		int[] areaInSqKm = new int[size];
+		int[] densityPerSqKm = new int[size];
+		int row = 0;
+		for (IndiaCensusCSV censusCSV : censusCSVList) {
+			Integer stateId = dictionaryIds.get(censusCSV.state);
+			if (stateId == null) {
+				stateId = dictionary.size();
+				dictionaryIds.put(censusCSV.state, stateId);
+				dictionary.add(censusCSV.state);
+			}
+			stateIds[row] = stateId;
+			population[row] = censusCSV.population;
+			areaInSqKm[row] = censusCSV.areaInSqKm;
+			densityPerSqKm[row] = censusCSV.densityPerSqKm;
+			row++;
+		}
+		return new CensusTable(dictionary.toArray(new String[0]), stateIds, population, areaInSqKm, densityPerSqKm);
+	}
+
+	CensusTable patch(int[] retainedRows, List<IndiaCensusCSV> insertedRows) {
+		int size = retainedRows.length + insertedRows.size();
+		Map<String, Integer> dictionaryIds = new HashMap<>();
+		List<String> dictionary = new ArrayList<>();
+		int[] dictionaryRemap = new int[stateDictionary.size()];
+		Arrays.fill(dictionaryRemap, -1);
+		int[] patchedStateIds = new int[size];
+		int[] patchedPopulation = new int[size];
+		int[] patchedAreaInSqKm = new int[size];
+		int[] patchedDensityPerSqKm = new int[size];
+		int row = 0;
+		for (int retainedRow : retainedRows) {
+			int stateId = stateIds.get(retainedRow);
+			if (dictionaryRemap[stateId] < 0) {
+				String state = stateDictionary.get(stateId);
+				dictionaryRemap[stateId] = dictionary.size();
+				dictionaryIds.put(state, dictionary.size());
+				dictionary.add(state);
+			}
+			patchedStateIds[row] = dictionaryRemap[stateId];
+			patchedPopulation[row] = population.get(retainedRow);
+			patchedAreaInSqKm[row] = areaInSqKm.get(retainedRow);
+			patchedDensityPerSqKm[row] = densityPerSqKm.get(retainedRow);
+			row++;
+		}
+		for (IndiaCensusCSV censusCSV : insertedRows) {
+			Integer stateId = dictionaryIds.get(censusCSV.state);
+			if (stateId == null) {
+				stateId = dictionary.size();
+				dictionaryIds.put(censusCSV.state, stateId);
+				dictionary.add(censusCSV.state);
+			}
+			patchedStateIds[row] = stateId;
+			patchedPopulation[row] = censusCSV.population;
+			patchedAreaInSqKm[row] = censusCSV.areaInSqKm;
+			patchedDensityPerSqKm[row] = censusCSV.densityPerSqKm;
+			row++;
+		}
+		return new CensusTable(dictionary.toArray(new String[0]), patchedStateIds, patchedPopulation,
+				patchedAreaInSqKm, patchedDensityPerSqKm).withStorage(this.getStorage());
+	}
+
+	public CensusTable withStorage(CensusStorage storage) {
+		if (storage == this.getStorage()) {
+			return this;
+		}
+		return new CensusTable(stateDictionary.copy(storage), stateIds.copy(storage, size),
+				population.copy(storage, size), areaInSqKm.copy(storage, size), densityPerSqKm.copy(storage, size));
+	}
+
+	private IntColumn rankStates() {
+		String[] states = new String[stateDictionary.size()];
+		for (int stateId = 0; stateId < states.length; stateId++) {
+			states[stateId] = stateDictionary.get(stateId);
+		}
+		String[] sortedStates = states.clone();
+		Arrays.sort(sortedStates);
+		int[] dictionaryRanks = new int[states.length];
+		for (int stateId = 0; stateId < states.length; stateId++) {
+			dictionaryRanks[stateId] = Arrays.binarySearch(sortedStates, states[stateId]);
+		}
+		IntColumn ranks = IntColumn.allocate(this.getStorage(), size);
+		for (int row = 0; row < size; row++) {
+			ranks.set(row, dictionaryRanks[stateIds.get(row)]);
+		}
+		return ranks;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public CensusStorage getStorage() {
+		return stateIds.getStorage();
+	}
+
+	public String getState(int row) {
+		return stateDictionary.get(stateIds.get(row));
+	}
+
+	int getStateId(int row) {
+		return stateIds.get(row);
+	}
+
+	String getDictionaryState(int stateId) {
+		return stateDictionary.get(stateId);
+	}
+
+	int getStateDictionarySize() {
+		return stateDictionary.size();
+	}
+
+	public int getPopulation(int row) {
+		return population.get(row);
+	}
+
+	public int getAreaInSqKm(int row) {
+		return areaInSqKm.get(row);
+	}
+
+	public int getDensityPerSqKm(int row) {
+		return densityPerSqKm.get(row);
+	}
+
+	int[] getSortKeys(CensusColumn column) {
+		return this.getColumn(column).toArray();
+	}
+
+	int getSortKey(CensusColumn column, int row) {
+		return this.getColumn(column).get(row);
+	}
+
+	private IntColumn getColumn(CensusColumn column) {
+		switch (column) {
+		case STATE:
+			return stateRanks;
+		case POPULATION:
+			return population;
+		case AREA_IN_SQ_KM:
+			return areaInSqKm;
+		default:
+			return densityPerSqKm;
+		}
+	}
+
+	public IndiaCensusCSV getRow(int row) {
+		IndiaCensusCSV censusCSV = new IndiaCensusCSV();
+		censusCSV.state = this.getState(row);
+		censusCSV.population = population.get(row);
+		censusCSV.areaInSqKm = areaInSqKm.get(row);
+		censusCSV.densityPerSqKm = densityPerSqKm.get(row);
+		return censusCSV;
+	}
+
+	public List<IndiaCensusCSV> toCensusList(int[] order) {
+		List<IndiaCensusCSV> censusCSVList = new ArrayList<>(order.length);
+		for (int row : order) {
+			censusCSVList.add(this.getRow(row));
+		}
+		return censusCSVList;
+	}
+}
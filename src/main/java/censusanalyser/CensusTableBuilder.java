@@ -0,0 +1,50 @@
+package censusanalyser;
+
+import java.util.function.Consumer;
+
+class CensusTableBuilder implements Consumer<IndiaCensusCSV> {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final CensusStorage storage;
+	private final StringDictionary.OffHeapBuilder dictionary;
+	private IntColumn stateIds;
+	private IntColumn population;
+	private IntColumn areaInSqKm;
+	private IntColumn densityPerSqKm;
+	private int size;
+
+	CensusTableBuilder(CensusStorage storage) {
+		this.storage = storage;
+		this.dictionary = new StringDictionary.OffHeapBuilder(storage, INITIAL_CAPACITY);
+		this.stateIds = IntColumn.allocate(storage, INITIAL_CAPACITY);
+		this.population = IntColumn.allocate(storage, INITIAL_CAPACITY);
+		this.areaInSqKm = IntColumn.allocate(storage, INITIAL_CAPACITY);
+		this.densityPerSqKm = IntColumn.allocate(storage, INITIAL_CAPACITY);
+	}
+
+	@Override
+	public void accept(IndiaCensusCSV censusCSV) {
+		if (size == stateIds.size()) {
+			int capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) size * 2);
+			if (capacity == size) {
+				throw new IllegalStateException("Census table is full at " + size + " rows");
+			}
+			// The replaced off-heap columns are freed by their Cleaners; see StringDictionary.OffHeapBuilder.
+			stateIds = stateIds.copy(storage, capacity);
+			population = population.copy(storage, capacity);
+			areaInSqKm = areaInSqKm.copy(storage, capacity);
+			densityPerSqKm = densityPerSqKm.copy(storage, capacity);
+		}
+		stateIds.set(size, dictionary.add(censusCSV.state));
+		population.set(size, censusCSV.population);
+		areaInSqKm.set(size, censusCSV.areaInSqKm);
+		densityPerSqKm.set(size, censusCSV.densityPerSqKm);
+		size++;
+	}
+
+	CensusTable build() {
+		return new CensusTable(dictionary.build(), stateIds.copy(storage, size), population.copy(storage, size),
+				areaInSqKm.copy(storage, size), densityPerSqKm.copy(storage, size));
+	}
+}
@@ -0,0 +1,86 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ColumnSketch {
+
+	static final int HISTOGRAM_BUCKETS = 32;
+
+	private long count;
+	private long sum;
+	private int min = Integer.MAX_VALUE;
+	private int max = Integer.MIN_VALUE;
+	private final long[] histogram;
+	private final QuantileSketch quantiles;
+	private final DistinctCountSketch distinctValues;
+
+	ColumnSketch() {
+		this(new long[HISTOGRAM_BUCKETS], new QuantileSketch(), new DistinctCountSketch());
+	}
+
+	private ColumnSketch(long[] histogram, QuantileSketch quantiles, DistinctCountSketch distinctValues) {
+		this.histogram = histogram;
+		this.quantiles = quantiles;
+		this.distinctValues = distinctValues;
+	}
+
+	void accept(int value) {
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		histogram[bucketIndex(value)]++;
+		quantiles.update(value);
+		distinctValues.add(value);
+	}
+
+	void merge(ColumnSketch other) {
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+			histogram[bucket] += other.histogram[bucket];
+		}
+		quantiles.merge(other.quantiles);
+		distinctValues.merge(other.distinctValues);
+	}
+
+	ColumnSketch copy() {
+		ColumnSketch copy = new ColumnSketch(Arrays.copyOf(histogram, HISTOGRAM_BUCKETS), quantiles.copy(),
+				distinctValues.copy());
+		copy.count = count;
+		copy.sum = sum;
+		copy.min = min;
+		copy.max = max;
+		return copy;
+	}
+
+	ColumnSummary summarize(CensusColumn column) {
+		List<ColumnSummary.HistogramBucket> buckets = new ArrayList<>();
+		for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+			if (histogram[bucket] > 0) {
+				buckets.add(new ColumnSummary.HistogramBucket(Math.max(min, bucketLowerBound(bucket)),
+						Math.min(max, bucketUpperBound(bucket)), histogram[bucket]));
+			}
+		}
+		long[] cumulativeWeights = new long[quantiles.retained()];
+		int[] sortedValues = quantiles.sortedValues(cumulativeWeights);
+		return new ColumnSummary(column, count, sum, min, max, Math.min(distinctValues.estimate(), count), buckets,
+				sortedValues, cumulativeWeights);
+	}
+
+	static int bucketIndex(int value) {
+		return value <= 0 ? 0 : 32 - Integer.numberOfLeadingZeros(value);
+	}
+
+	static int bucketLowerBound(int bucket) {
+		return bucket == 0 ? Integer.MIN_VALUE : 1 << (bucket - 1);
+	}
+
+	static int bucketUpperBound(int bucket) {
+		return bucket == 0 ? 0 : (int) ((1L << bucket) - 1);
+	}
+}
@@ -0,0 +1,91 @@
+package censusanalyser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ColumnSummary {
+
+	public final CensusColumn column;
+	public final long count;
+	public final long sum;
+	public final int min;
+	public final int max;
+	public final double average;
+	public final long distinctCount;
+	public final List<HistogramBucket> histogram;
+	private final int[] sortedValues;
+	private final long[] cumulativeWeights;
+	private final int[] percentiles = new int[101];
+
+	ColumnSummary(CensusColumn column, long count, long sum, int min, int max, long distinctCount,
+			List<HistogramBucket> histogram, int[] sortedValues, long[] cumulativeWeights) {
+		this.column = column;
+		this.count = count;
+		this.sum = sum;
+		this.min = count == 0 ? 0 : min;
+		this.max = count == 0 ? 0 : max;
+		this.average = count == 0 ? 0 : (double) sum / count;
+		this.distinctCount = distinctCount;
+		this.histogram = Collections.unmodifiableList(histogram);
+		this.sortedValues = sortedValues;
+		this.cumulativeWeights = cumulativeWeights;
+		for (int percentile = 0; percentile <= 100; percentile++) {
+			percentiles[percentile] = this.quantile(percentile / 100.0);
+		}
+	}
+
+	public int quantile(double fraction) {
+		if (!(fraction >= 0 && fraction <= 1)) {
+			throw new IllegalArgumentException("Quantile must be between 0 and 1: " + fraction);
+		}
+		if (count == 0) {
+			return 0;
+		}
+		if (fraction == 0) {
+			return min;
+		}
+		if (fraction == 1) {
+			return max;
+		}
+		long rank = Math.max(1, (long) Math.ceil(fraction * cumulativeWeights[cumulativeWeights.length - 1]));
+		int index = Arrays.binarySearch(cumulativeWeights, rank);
+		return sortedValues[index < 0 ? -index - 1 : index];
+	}
+
+	public int percentile(int percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+		}
+		return percentiles[percentile];
+	}
+
+	public int median() {
+		return percentiles[50];
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnSummary [column=" + column + ", count=" + count + ", sum=" + sum + ", min=" + min + ", max="
+				+ max + ", average=" + average + ", distinctCount=" + distinctCount + ", median=" + this.median()
+				+ ", histogram=" + histogram + "]";
+	}
+
+	public static class HistogramBucket {
+
+		public final int lowerBound;
+		public final int upperBound;
+		public final long count;
+
+		public HistogramBucket(int lowerBound, int upperBound, long count) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+			this.count = count;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + lowerBound + ", " + upperBound + "]: " + count;
+		}
+	}
+}
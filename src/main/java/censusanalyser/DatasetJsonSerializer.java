@@ -0,0 +1,57 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+
+import com.google.gson.stream.JsonWriter;
+
+public class DatasetJsonSerializer {
+
+	private DatasetJsonSerializer() {
+	}
+
+	public static void write(DatasetTable datasetTable, int[] order, Writer writer) throws IOException {
+		List<DatasetSchema.Column> columns = datasetTable.getSchema().getColumns();
+		JsonWriter jsonWriter = new JsonWriter(writer);
+		jsonWriter.setHtmlSafe(true);
+		jsonWriter.setSerializeNulls(false);
+		jsonWriter.beginArray();
+		for (int row : order) {
+			jsonWriter.beginObject();
+			for (int column = 0; column < columns.size(); column++) {
+				DatasetSchema.Column schemaColumn = columns.get(column);
+				if (datasetTable.isNull(column, row)) {
+					continue;
+				}
+				jsonWriter.name(schemaColumn.name);
+				switch (schemaColumn.type) {
+				case INT:
+					jsonWriter.value(datasetTable.getInt(column, row));
+					break;
+				case LONG:
+					jsonWriter.value(datasetTable.getLong(column, row));
+					break;
+				case DOUBLE:
+					jsonWriter.value(datasetTable.getDouble(column, row));
+					break;
+				default:
+					jsonWriter.value(datasetTable.getString(column, row));
+				}
+				if (datasetTable.isMarked(column, row)) {
+					jsonWriter.name(schemaColumn.name + schemaColumn.markerSuffix).value(true);
+				}
+			}
+			jsonWriter.endObject();
+		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+	}
+
+	public static String toJson(DatasetTable datasetTable, int[] order) throws IOException {
+		StringWriter writer = new StringWriter();
+		write(datasetTable, order, writer);
+		return writer.toString();
+	}
+}
@@ -0,0 +1,120 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DatasetLoader {
+
+	private final CensusSorter censusSorter;
+	private final int mappingSize;
+
+	public DatasetLoader(CensusSorter censusSorter) {
+		this(censusSorter, FastCSVBuilder.DEFAULT_MAPPING_SIZE);
+	}
+
+	public DatasetLoader(CensusSorter censusSorter, int mappingSize) {
+		this.censusSorter = censusSorter;
+		this.mappingSize = mappingSize;
+	}
+
+	public DatasetTable load(Path csvFilePath, DatasetSchema schema) throws CSVBuilderException, IOException {
+		List<DatasetTable.ColumnStorage> columns = new ArrayList<>();
+		for (DatasetSchema.Column column : schema.getColumns()) {
+			columns.add(DatasetTable.newStorage(column));
+		}
+		SchemaRowVisitor rowVisitor = new SchemaRowVisitor(schema, columns);
+		FastCSVBuilder.scan(csvFilePath, mappingSize, rowVisitor);
+		return DatasetTable.of(schema, columns, rowVisitor.rows, censusSorter);
+	}
+
+	private static class SchemaRowVisitor implements FastCSVBuilder.RowVisitor {
+
+		private final DatasetSchema schema;
+		private final DatasetSchema.Column[] schemaColumns;
+		private final DatasetTable.ColumnStorage[] storages;
+		private int[] fieldOfColumn;
+		private int fieldCount;
+		private int rows;
+
+		SchemaRowVisitor(DatasetSchema schema, List<DatasetTable.ColumnStorage> storages) {
+			this.schema = schema;
+			this.schemaColumns = schema.getColumns().toArray(new DatasetSchema.Column[0]);
+			this.storages = storages.toArray(new DatasetTable.ColumnStorage[0]);
+		}
+
+		@Override
+		public void header(ByteCSVReader csvReader) throws CSVBuilderException {
+			fieldCount = csvReader.getFieldCount();
+			if (schema.hasTrailingEmptyColumn()) {
+				if (fieldCount == 0 || !csvReader.isEmpty(fieldCount - 1)) {
+					throw new CSVBuilderException("Header of " + schema.getName() + " has no trailing empty column",
+							CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+				}
+			}
+			fieldOfColumn = new int[schemaColumns.length];
+			Arrays.fill(fieldOfColumn, -1);
+			List<String> missing = new ArrayList<>();
+			for (int column = 0; column < schemaColumns.length; column++) {
+				for (int field = 0; field < fieldCount; field++) {
+					if (csvReader.getString(field).trim().equalsIgnoreCase(schemaColumns[column].headerKey)) {
+						fieldOfColumn[column] = field;
+						break;
+					}
+				}
+				if (fieldOfColumn[column] < 0 && !schemaColumns[column].nullable) {
+					missing.add(schemaColumns[column].name);
+				}
+			}
+			if (!missing.isEmpty()) {
+				throw new CSVBuilderException("Header of " + schema.getName() + " is missing required fields " + missing,
+						CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+			}
+		}
+
+		@Override
+		public void row(ByteCSVReader csvReader) throws CSVBuilderException {
+			if (this.isBlank(csvReader)) {
+				return;
+			}
+			if (csvReader.getFieldCount() != fieldCount) {
+				throw new CSVBuilderException("Line " + csvReader.getLineNumber() + ": Expected " + fieldCount
+						+ " fields but found " + csvReader.getFieldCount(),
+						CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+			}
+			for (int column = 0; column < schemaColumns.length; column++) {
+				DatasetSchema.Column schemaColumn = schemaColumns[column];
+				int field = fieldOfColumn[column];
+				try {
+					if (field < 0 || schemaColumn.isNull(csvReader, field)) {
+						if (!schemaColumn.nullable) {
+							throw new IllegalArgumentException(
+									"field " + schemaColumn.name + " is mandatory but no value was provided");
+						}
+						storages[column].appendNull(rows);
+						continue;
+					}
+					if (schemaColumn.markerSuffix != null && csvReader.dropSuffix(field, schemaColumn.markerByte)) {
+						storages[column].markers.set(rows);
+					}
+					storages[column].append(csvReader, field, rows);
+				} catch (RuntimeException e) {
+					throw new CSVBuilderException("Line " + csvReader.getLineNumber() + ": " + e.getMessage(),
+							CSVBuilderException.ExceptionType.UNABLE_TO_PARSE, e);
+				}
+			}
+			rows++;
+		}
+
+		private boolean isBlank(ByteCSVReader csvReader) {
+			for (int field = 0; field < csvReader.getFieldCount(); field++) {
+				if (!csvReader.isEmpty(field)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package censusanalyser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class DatasetSchema {
+
+	public enum ColumnType {
+		INT, LONG, DOUBLE, STRING
+	}
+
+	private final String name;
+	private final List<Column> columns;
+	private final boolean trailingEmptyColumn;
+
+	private DatasetSchema(String name, List<Column> columns, boolean trailingEmptyColumn) {
+		this.name = name;
+		this.columns = Collections.unmodifiableList(columns);
+		this.trailingEmptyColumn = trailingEmptyColumn;
+	}
+
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public List<Column> getColumns() {
+		return columns;
+	}
+
+	public boolean hasTrailingEmptyColumn() {
+		return trailingEmptyColumn;
+	}
+
+	public int indexOf(String columnName) {
+		for (int column = 0; column < columns.size(); column++) {
+			if (columns.get(column).name.equalsIgnoreCase(columnName.trim())) {
+				return column;
+			}
+		}
+		throw new IllegalArgumentException("No column " + columnName + " in " + name);
+	}
+
+	@Override
+	public String toString() {
+		return "DatasetSchema [name=" + name + ", columns=" + columns + ", trailingEmptyColumn="
+				+ trailingEmptyColumn + "]";
+	}
+
+	public static class Column {
+
+		public final String name;
+		public final ColumnType type;
+		public final boolean nullable;
+		public final List<String> nullTokens;
+		public final String markerSuffix;
+
+		final String headerKey;
+		final byte[][] nullTokenBytes;
+		final byte markerByte;
+
+		Column(String name, ColumnType type, boolean nullable, List<String> nullTokens, String markerSuffix) {
+			if (markerSuffix != null && markerSuffix.getBytes(StandardCharsets.UTF_8).length != 1) {
+				throw new IllegalArgumentException("Marker suffix must be a single byte: " + markerSuffix);
+			}
+			this.name = name;
+			this.type = type;
+			this.nullable = nullable;
+			this.nullTokens = Collections.unmodifiableList(nullTokens);
+			this.markerSuffix = markerSuffix;
+			this.headerKey = name.trim().toUpperCase(Locale.ROOT);
+			this.nullTokenBytes = new byte[nullTokens.size()][];
+			for (int token = 0; token < nullTokens.size(); token++) {
+				nullTokenBytes[token] = nullTokens.get(token).getBytes(StandardCharsets.UTF_8);
+			}
+			this.markerByte = markerSuffix == null ? 0 : markerSuffix.getBytes(StandardCharsets.UTF_8)[0];
+		}
+
+		boolean isNull(ByteCSVReader csvReader, int field) {
+			if (csvReader.isEmpty(field)) {
+				return true;
+			}
+			for (byte[] token : nullTokenBytes) {
+				if (csvReader.fieldEquals(field, token)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return "Column [name=" + name + ", type=" + type + ", nullable=" + nullable + ", nullTokens="
+					+ nullTokens + ", markerSuffix=" + markerSuffix + "]";
+		}
+	}
+
+	public static class Builder {
+
+		private final String name;
+		private final List<Column> columns = new ArrayList<>();
+		private boolean trailingEmptyColumn;
+
+		private Builder(String name) {
+			this.name = name;
+		}
+
+		public Builder column(String columnName, ColumnType type) {
+			columns.add(new Column(columnName, type, false, Collections.emptyList(), null));
+			return this;
+		}
+
+		public Builder nullableColumn(String columnName, ColumnType type, String... nullTokens) {
+			List<String> tokens = new ArrayList<>();
+			Collections.addAll(tokens, nullTokens);
+			columns.add(new Column(columnName, type, true, tokens, null));
+			return this;
+		}
+
+		public Builder markedColumn(String columnName, ColumnType type, String markerSuffix) {
+			columns.add(new Column(columnName, type, false, Collections.emptyList(), markerSuffix));
+			return this;
+		}
+
+		public Builder trailingEmptyColumn() {
+			this.trailingEmptyColumn = true;
+			return this;
+		}
+
+		public DatasetSchema build() {
+			return new DatasetSchema(name, new ArrayList<>(columns), trailingEmptyColumn);
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package censusanalyser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class DatasetTable {
+
+	private final DatasetSchema schema;
+	private final int size;
+	private final ColumnStorage[] columns;
+	private final CensusSorter censusSorter;
+	private final AtomicReferenceArray<int[]> sortIndexes;
+
+	DatasetTable(DatasetSchema schema, int size, ColumnStorage[] columns, CensusSorter censusSorter) {
+		this.schema = schema;
+		this.size = size;
+		this.columns = columns;
+		this.censusSorter = censusSorter;
+		this.sortIndexes = new AtomicReferenceArray<>(columns.length * SortOrder.values().length);
+	}
+
+	public DatasetSchema getSchema() {
+		return schema;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int columnIndex(String columnName) {
+		return schema.indexOf(columnName);
+	}
+
+	public boolean isNull(int column, int row) {
+		return columns[column].nulls.get(row);
+	}
+
+	public boolean isMarked(int column, int row) {
+		return columns[column].markers.get(row);
+	}
+
+	public int getInt(int column, int row) {
+		return ((IntStorage) columns[column]).values[row];
+	}
+
+	public long getLong(int column, int row) {
+		return ((LongStorage) columns[column]).values[row];
+	}
+
+	public double getDouble(int column, int row) {
+		return ((DoubleStorage) columns[column]).values[row];
+	}
+
+	public String getString(int column, int row) {
+		StringStorage storage = (StringStorage) columns[column];
+		return storage.nulls.get(row) ? null : storage.dictionary[storage.ids[row]];
+	}
+
+	public Object getValue(int column, int row) {
+		if (this.isNull(column, row)) {
+			return null;
+		}
+		switch (schema.getColumns().get(column).type) {
+		case INT:
+			return this.getInt(column, row);
+		case LONG:
+			return this.getLong(column, row);
+		case DOUBLE:
+			return this.getDouble(column, row);
+		default:
+			return this.getString(column, row);
+		}
+	}
+
+	public int[] getSortIndex(int column, SortOrder order) {
+		int slot = column * SortOrder.values().length + order.ordinal();
+		int[] sortIndex = sortIndexes.get(slot);
+		if (sortIndex == null) {
+			int[] built = censusSorter.sortIndex(this.getSortKeys(column, order), order == SortOrder.DESCENDING);
+			sortIndex = sortIndexes.compareAndSet(slot, null, built) ? built : sortIndexes.get(slot);
+		}
+		return sortIndex;
+	}
+
+	public int[] topK(int column, int k, SortOrder order) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		int limit = Math.min(k, size);
+		int[] sortIndex = sortIndexes.get(column * SortOrder.values().length + order.ordinal());
+		if (sortIndex != null) {
+			return Arrays.copyOf(sortIndex, limit);
+		}
+		return CensusQueries.selectTopK(this.getSortKeys(column, order), limit, order == SortOrder.DESCENDING);
+	}
+
+	int[] getSortKeys(int column, SortOrder order) {
+		ColumnStorage storage = columns[column];
+		if (storage instanceof IntStorage && storage.nulls.isEmpty()) {
+			return ((IntStorage) storage).values;
+		}
+		long[] sortableValues = new long[size];
+		for (int row = 0; row < size; row++) {
+			sortableValues[row] = storage.nulls.get(row) ? Long.MIN_VALUE : storage.sortableValue(row);
+		}
+		long[] distinctValues = sortableValues.clone();
+		Arrays.sort(distinctValues);
+		int nullRank = order == SortOrder.ASCENDING ? Integer.MAX_VALUE : -1;
+		int[] ranks = new int[size];
+		for (int row = 0; row < size; row++) {
+			ranks[row] = storage.nulls.get(row) ? nullRank : Arrays.binarySearch(distinctValues, sortableValues[row]);
+		}
+		return ranks;
+	}
+
+	static ColumnStorage newStorage(DatasetSchema.Column column) {
+		switch (column.type) {
+		case INT:
+			return new IntStorage();
+		case LONG:
+			return new LongStorage();
+		case DOUBLE:
+			return new DoubleStorage();
+		default:
+			return new StringStorage();
+		}
+	}
+
+	abstract static class ColumnStorage {
+
+		final BitSet nulls = new BitSet();
+		final BitSet markers = new BitSet();
+
+		abstract void append(ByteCSVReader csvReader, int field, int row);
+
+		abstract void appendNull(int row);
+
+		abstract long sortableValue(int row);
+
+		abstract void trim(int size);
+	}
+
+	static class IntStorage extends ColumnStorage {
+
+		int[] values = new int[64];
+
+		@Override
+		void append(ByteCSVReader csvReader, int field, int row) {
+			this.ensureCapacity(row);
+			values[row] = csvReader.getInt(field);
+		}
+
+		@Override
+		void appendNull(int row) {
+			this.ensureCapacity(row);
+			nulls.set(row);
+		}
+
+		private void ensureCapacity(int row) {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, row * 2);
+			}
+		}
+
+		@Override
+		long sortableValue(int row) {
+			return values[row];
+		}
+
+		@Override
+		void trim(int size) {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	static class LongStorage extends ColumnStorage {
+
+		long[] values = new long[64];
+
+		@Override
+		void append(ByteCSVReader csvReader, int field, int row) {
+			this.ensureCapacity(row);
+			values[row] = csvReader.getLong(field);
+		}
+
+		@Override
+		void appendNull(int row) {
+			this.ensureCapacity(row);
+			nulls.set(row);
+		}
+
+		private void ensureCapacity(int row) {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, row * 2);
+			}
+		}
+
+		@Override
+		long sortableValue(int row) {
+			return values[row];
+		}
+
+		@Override
+		void trim(int size) {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	static class DoubleStorage extends ColumnStorage {
+
+		double[] values = new double[64];
+
+		@Override
+		void append(ByteCSVReader csvReader, int field, int row) {
+			this.ensureCapacity(row);
+			values[row] = csvReader.getDouble(field);
+		}
+
+		@Override
+		void appendNull(int row) {
+			this.ensureCapacity(row);
+			nulls.set(row);
+		}
+
+		private void ensureCapacity(int row) {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, row * 2);
+			}
+		}
+
+		@Override
+		long sortableValue(int row) {
+			long bits = Double.doubleToLongBits(values[row]);
+			return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+		}
+
+		@Override
+		void trim(int size) {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	static class StringStorage extends ColumnStorage {
+
+		int[] ids = new int[64];
+		String[] dictionary = new String[16];
+		private int dictionarySize;
+		private Map<String, Integer> dictionaryIds = new HashMap<>();
+		private int[] ranks;
+
+		@Override
+		void append(ByteCSVReader csvReader, int field, int row) {
+			this.ensureCapacity(row);
+			String value = csvReader.getString(field).trim();
+			Integer id = dictionaryIds.get(value);
+			if (id == null) {
+				id = dictionarySize;
+				dictionaryIds.put(value, id);
+				if (dictionarySize == dictionary.length) {
+					dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+				}
+				dictionary[dictionarySize++] = value;
+			}
+			ids[row] = id;
+		}
+
+		@Override
+		void appendNull(int row) {
+			this.ensureCapacity(row);
+			nulls.set(row);
+		}
+
+		private void ensureCapacity(int row) {
+			if (row == ids.length) {
+				ids = Arrays.copyOf(ids, row * 2);
+			}
+		}
+
+		@Override
+		long sortableValue(int row) {
+			return ranks[ids[row]];
+		}
+
+		@Override
+		void trim(int size) {
+			ids = Arrays.copyOf(ids, size);
+			dictionary = Arrays.copyOf(dictionary, dictionarySize);
+			dictionaryIds = null;
+			String[] sorted = dictionary.clone();
+			Arrays.sort(sorted);
+			ranks = new int[dictionarySize];
+			for (int id = 0; id < dictionarySize; id++) {
+				ranks[id] = Arrays.binarySearch(sorted, dictionary[id]);
+			}
+		}
+	}
+
+	static DatasetTable of(DatasetSchema schema, List<ColumnStorage> columns, int size, CensusSorter censusSorter) {
+		for (ColumnStorage column : columns) {
+			column.trim(size);
+		}
+		return new DatasetTable(schema, size, columns.toArray(new ColumnStorage[0]), censusSorter);
+	}
+}
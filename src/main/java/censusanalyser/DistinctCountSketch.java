@@ -0,0 +1,129 @@
+package censusanalyser;
+
+import java.util.Arrays;
+
+class DistinctCountSketch {
+
+	static final int DEFAULT_PRECISION = 12;
+
+	private final int precision;
+	private final byte[] registers;
+	private long[] exactHashes;
+	private int exactCount;
+
+	DistinctCountSketch() {
+		this(DEFAULT_PRECISION);
+	}
+
+	DistinctCountSketch(int precision) {
+		if (precision < 4 || precision > 18) {
+			throw new IllegalArgumentException("precision must be between 4 and 18: " + precision);
+		}
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+		this.exactHashes = new long[registers.length / 2];
+	}
+
+	private DistinctCountSketch(int precision, byte[] registers, long[] exactHashes, int exactCount) {
+		this.precision = precision;
+		this.registers = registers;
+		this.exactHashes = exactHashes;
+		this.exactCount = exactCount;
+	}
+
+	void add(int value) {
+		this.addHash(mix(value));
+	}
+
+	void add(String value) {
+		long hash = 0;
+		for (int index = 0; index < value.length(); index++) {
+			hash = 31 * hash + value.charAt(index);
+		}
+		this.addHash(mix(hash));
+	}
+
+	private void addHash(long hash) {
+		int register = (int) (hash >>> (64 - precision));
+		int rank = Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1;
+		if (rank > registers[register]) {
+			registers[register] = (byte) rank;
+		}
+		if (exactHashes != null) {
+			this.addExact(hash == 0 ? 1 : hash);
+		}
+	}
+
+	private void addExact(long hash) {
+		int mask = exactHashes.length - 1;
+		int slot = (int) hash & mask;
+		while (exactHashes[slot] != 0) {
+			if (exactHashes[slot] == hash) {
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		if (exactCount * 2 >= exactHashes.length) {
+			exactHashes = null;
+			return;
+		}
+		exactHashes[slot] = hash;
+		exactCount++;
+	}
+
+	void merge(DistinctCountSketch other) {
+		if (other.precision != precision) {
+			throw new IllegalArgumentException(
+					"Cannot merge sketches with precision " + precision + " and " + other.precision);
+		}
+		for (int register = 0; register < registers.length; register++) {
+			if (other.registers[register] > registers[register]) {
+				registers[register] = other.registers[register];
+			}
+		}
+		if (exactHashes != null && other.exactHashes != null) {
+			for (long hash : other.exactHashes) {
+				if (hash != 0 && exactHashes != null) {
+					this.addExact(hash);
+				}
+			}
+		} else {
+			exactHashes = null;
+		}
+	}
+
+	DistinctCountSketch copy() {
+		return new DistinctCountSketch(precision, Arrays.copyOf(registers, registers.length),
+				exactHashes == null ? null : Arrays.copyOf(exactHashes, exactHashes.length), exactCount);
+	}
+
+	long estimate() {
+		if (exactHashes != null) {
+			return exactCount;
+		}
+		int buckets = registers.length;
+		double harmonicSum = 0;
+		int emptyRegisters = 0;
+		for (byte rank : registers) {
+			harmonicSum += 1.0 / (1L << rank);
+			if (rank == 0) {
+				emptyRegisters++;
+			}
+		}
+		double alpha = 0.7213 / (1 + 1.079 / buckets);
+		double estimate = alpha * buckets * buckets / harmonicSum;
+		if (estimate <= 2.5 * buckets && emptyRegisters > 0) {
+			estimate = buckets * Math.log((double) buckets / emptyRegisters);
+		}
+		return Math.round(estimate);
+	}
+
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -0,0 +1,5 @@
+package censusanalyser;
+
+public enum ExportFormat {
+	JSON, CSV
+}
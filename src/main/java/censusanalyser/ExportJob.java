@@ -0,0 +1,24 @@
+package censusanalyser;
+
+import java.nio.file.Path;
+
+public class ExportJob {
+
+	public final CensusColumn column;
+	public final SortOrder order;
+	public final ExportFormat format;
+	public final Path destination;
+
+	public ExportJob(CensusColumn column, SortOrder order, ExportFormat format, Path destination) {
+		this.column = column;
+		this.order = order;
+		this.format = format;
+		this.destination = destination;
+	}
+
+	@Override
+	public String toString() {
+		return "ExportJob [column=" + column + ", order=" + order + ", format=" + format + ", destination="
+				+ destination + "]";
+	}
+}
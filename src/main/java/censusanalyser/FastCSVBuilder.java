@@ -0,0 +1,169 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class FastCSVBuilder<E> implements ICSVBuilder<E> {
+
+	public static final int DEFAULT_MAPPING_SIZE = 1 << 30;
+
+	private static final int HEADER_READ_SIZE = 8192;
+
+	private final int mappingSize;
+
+	public FastCSVBuilder() {
+		this(DEFAULT_MAPPING_SIZE);
+	}
+
+	public FastCSVBuilder(int mappingSize) {
+		this.mappingSize = mappingSize;
+	}
+
+	@Override
+	public Iterator<E> getCSVFileIterator(Reader reader, Class<E> csvClass) throws CSVBuilderException {
+		return this.getCSVFileList(reader, csvClass).iterator();
+	}
+
+	@Override
+	public List<E> getCSVFileList(Reader reader, Class<E> csvClass) throws CSVBuilderException {
+		return this.getCSVFileList(this.readFully(reader), csvClass);
+	}
+
+	public List<E> getCSVFileList(ByteBuffer buffer, Class<E> csvClass) throws CSVBuilderException {
+		CSVRowBinder<E> binder = CSVRowBinder.forClass(csvClass);
+		ByteCSVReader csvReader = new ByteCSVReader(buffer, 0, buffer.limit(), true, 1);
+		CSVRowBinder<E>.HeaderBinding headerBinding = this.bindHeader(binder, csvReader);
+		List<E> beans = new ArrayList<>();
+		while (csvReader.nextRow()) {
+			beans.add(headerBinding.bind(csvReader));
+		}
+		return beans;
+	}
+
+	@Override
+	public List<E> getCSVFileList(Path csvFilePath, Class<E> csvClass) throws CSVBuilderException, IOException {
+		List<E> beans = new ArrayList<>();
+		this.stream(csvFilePath, csvClass, beans::add);
+		return beans;
+	}
+
+	public void stream(Path csvFilePath, Class<E> csvClass, Consumer<? super E> consumer)
+			throws CSVBuilderException, IOException {
+		CSVRowBinder<E> binder = CSVRowBinder.forClass(csvClass);
+		scan(csvFilePath, mappingSize, new RowVisitor() {
+
+			private CSVRowBinder<E>.HeaderBinding headerBinding;
+
+			@Override
+			public void header(ByteCSVReader csvReader) throws CSVBuilderException {
+				headerBinding = binder.bindHeader(csvReader);
+			}
+
+			@Override
+			public void row(ByteCSVReader csvReader) throws CSVBuilderException {
+				consumer.accept(headerBinding.bind(csvReader));
+			}
+		});
+	}
+
+	static void scan(Path csvFilePath, int mappingSize, RowVisitor rowVisitor) throws CSVBuilderException, IOException {
+		try (FileChannel channel = FileChannel.open(csvFilePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			long lineNumber = 1;
+			boolean headerRead = false;
+			while (position < size) {
+				int length = (int) Math.min(mappingSize, size - position);
+				boolean endOfInput = position + length == size;
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				ByteCSVReader csvReader = new ByteCSVReader(buffer, 0, length, endOfInput, lineNumber);
+				if (!headerRead) {
+					if (!csvReader.nextRow()) {
+						break;
+					}
+					rowVisitor.header(csvReader);
+					headerRead = true;
+				}
+				while (csvReader.nextRow()) {
+					rowVisitor.row(csvReader);
+				}
+				if (csvReader.getPosition() == 0 && !endOfInput) {
+					throw new CSVBuilderException("Row at line " + lineNumber + " exceeds the mapping size",
+							CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+				}
+				position += csvReader.getPosition();
+				lineNumber = csvReader.getLineNumber() + 1;
+			}
+			if (!headerRead) {
+				throw new CSVBuilderException("Missing header", CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+			}
+		}
+	}
+
+	static <E> CSVRowBinder<E>.HeaderBinding bindHeader(Path csvFilePath, CSVRowBinder<E> binder)
+			throws CSVBuilderException, IOException {
+		try (FileChannel channel = FileChannel.open(csvFilePath, StandardOpenOption.READ)) {
+			return bindHeader(channel, binder);
+		}
+	}
+
+	static <E> CSVRowBinder<E>.HeaderBinding bindHeader(FileChannel channel, CSVRowBinder<E> binder)
+			throws CSVBuilderException, IOException {
+		long size = channel.size();
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(HEADER_READ_SIZE, size));
+		while (true) {
+			int read = buffer.hasRemaining() ? channel.read(buffer, buffer.position()) : 0;
+			boolean endOfInput = read < 0 || buffer.position() == size;
+			ByteCSVReader csvReader = new ByteCSVReader(buffer, 0, buffer.position(), endOfInput, 1);
+			if (csvReader.nextRow()) {
+				return binder.bindHeader(csvReader);
+			}
+			if (endOfInput) {
+				throw new CSVBuilderException("Missing header", CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+			}
+			if (!buffer.hasRemaining()) {
+				ByteBuffer grown = ByteBuffer.allocate((int) Math.min((long) buffer.capacity() * 2, size));
+				buffer.flip();
+				buffer = grown.put(buffer);
+			}
+		}
+	}
+
+	CSVRowBinder<E>.HeaderBinding bindHeader(CSVRowBinder<E> binder, ByteCSVReader csvReader)
+			throws CSVBuilderException {
+		if (!csvReader.nextRow()) {
+			throw new CSVBuilderException("Missing header", CSVBuilderException.ExceptionType.UNABLE_TO_PARSE);
+		}
+		return binder.bindHeader(csvReader);
+	}
+
+	private ByteBuffer readFully(Reader reader) throws CSVBuilderException {
+		try {
+			StringBuilder content = new StringBuilder();
+			char[] buffer = new char[8192];
+			for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+				content.append(buffer, 0, read);
+			}
+			return ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new CSVBuilderException(e.getMessage(), CSVBuilderException.ExceptionType.CENSUS_FILE_PROBLEM, e);
+		}
+	}
+
+	interface RowVisitor {
+
+		void header(ByteCSVReader csvReader) throws CSVBuilderException;
+
+		void row(ByteCSVReader csvReader) throws CSVBuilderException;
+	}
+}
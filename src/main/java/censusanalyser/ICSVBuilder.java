@@ -1,10 +1,19 @@
 package censusanalyser;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 
 public interface ICSVBuilder<E> {
-	public  Iterator<E> getCSVFileIterator(Reader reader, Class csvClass) throws CSVBuilderException;
-	public  List<E> getCSVFileList(Reader reader, Class csvClass) throws CSVBuilderException;
+	public  Iterator<E> getCSVFileIterator(Reader reader, Class<E> csvClass) throws CSVBuilderException;
+	public  List<E> getCSVFileList(Reader reader, Class<E> csvClass) throws CSVBuilderException;
+
+	public default List<E> getCSVFileList(Path csvFilePath, Class<E> csvClass) throws CSVBuilderException, IOException {
+		try (Reader reader = Files.newBufferedReader(csvFilePath)) {
+			return this.getCSVFileList(reader, csvClass);
+		}
+	}
 }
@@ -0,0 +1,41 @@
+package censusanalyser;
+
+public class IPLSchemas {
+
+	public static final DatasetSchema MOST_RUNS = DatasetSchema.builder("IPL2019FactsheetMostRuns")
+			.column("POS", DatasetSchema.ColumnType.INT)
+			.column("PLAYER", DatasetSchema.ColumnType.STRING)
+			.column("Mat", DatasetSchema.ColumnType.INT)
+			.column("Inns", DatasetSchema.ColumnType.INT)
+			.column("NO", DatasetSchema.ColumnType.INT)
+			.column("Runs", DatasetSchema.ColumnType.INT)
+			.markedColumn("HS", DatasetSchema.ColumnType.INT, "*")
+			.nullableColumn("Avg", DatasetSchema.ColumnType.DOUBLE, "-")
+			.column("BF", DatasetSchema.ColumnType.INT)
+			.column("SR", DatasetSchema.ColumnType.DOUBLE)
+			.column("100", DatasetSchema.ColumnType.INT)
+			.column("50", DatasetSchema.ColumnType.INT)
+			.column("4s", DatasetSchema.ColumnType.INT)
+			.column("6s", DatasetSchema.ColumnType.INT)
+			.build();
+
+	public static final DatasetSchema MOST_WICKETS = DatasetSchema.builder("IPL2019FactsheetMostWkts")
+			.column("POS", DatasetSchema.ColumnType.INT)
+			.column("PLAYER", DatasetSchema.ColumnType.STRING)
+			.column("Mat", DatasetSchema.ColumnType.INT)
+			.column("Inns", DatasetSchema.ColumnType.INT)
+			.column("Ov", DatasetSchema.ColumnType.DOUBLE)
+			.column("Runs", DatasetSchema.ColumnType.INT)
+			.column("Wkts", DatasetSchema.ColumnType.INT)
+			.column("BBI", DatasetSchema.ColumnType.INT)
+			.nullableColumn("Avg", DatasetSchema.ColumnType.DOUBLE, "-")
+			.column("Econ", DatasetSchema.ColumnType.DOUBLE)
+			.nullableColumn("SR", DatasetSchema.ColumnType.DOUBLE, "-")
+			.column("4w", DatasetSchema.ColumnType.INT)
+			.column("5w", DatasetSchema.ColumnType.INT)
+			.trailingEmptyColumn()
+			.build();
+
+	private IPLSchemas() {
+	}
+}
@@ -0,0 +1,41 @@
+package censusanalyser;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+	private final ConcurrentHashMap<String, LongAdderCounter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, LogLinearHistogram> histograms = new ConcurrentHashMap<>();
+
+	@Override
+	public Counter counter(String name) {
+		return counters.computeIfAbsent(name, key -> new LongAdderCounter());
+	}
+
+	@Override
+	public Histogram histogram(String name) {
+		return histograms.computeIfAbsent(name, key -> new LogLinearHistogram());
+	}
+
+	@Override
+	public MetricsSnapshot snapshot() {
+		Map<String, Long> counterValues = new TreeMap<>();
+		counters.forEach((name, counter) -> counterValues.put(name, counter.sum.sum()));
+		Map<String, MetricsSnapshot.HistogramSnapshot> histogramValues = new TreeMap<>();
+		histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+		return new MetricsSnapshot(counterValues, histogramValues);
+	}
+
+	private static class LongAdderCounter implements Counter {
+
+		private final LongAdder sum = new LongAdder();
+
+		@Override
+		public void increment(long delta) {
+			sum.add(delta);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalCensusLoader {
+
+	private final Path csvFilePath;
+	private final CensusSorter censusSorter;
+	private final int mappingSize;
+	private SourceFingerprint fingerprint;
+	private SortIndexCache sortIndexCache;
+	private long[] rowHashes = new long[0];
+	private List<IndiaCensusCSV> changedRows = new ArrayList<>();
+
+	public IncrementalCensusLoader(Path csvFilePath, CensusSorter censusSorter) {
+		this(csvFilePath, censusSorter, FastCSVBuilder.DEFAULT_MAPPING_SIZE);
+	}
+
+	public IncrementalCensusLoader(Path csvFilePath, CensusSorter censusSorter, int mappingSize) {
+		this.csvFilePath = csvFilePath;
+		this.censusSorter = censusSorter;
+		this.mappingSize = mappingSize;
+	}
+
+	public Path getCSVFilePath() {
+		return csvFilePath;
+	}
+
+	public synchronized SortIndexCache getSortIndexCache() {
+		return sortIndexCache;
+	}
+
+	public synchronized List<IndiaCensusCSV> getChangedRows() {
+		return changedRows;
+	}
+
+	public ReloadReport reload(SortIndexCache current) throws IOException, CSVBuilderException {
+		return this.reload(current, CensusStorage.HEAP);
+	}
+
+	public synchronized ReloadReport reload(SortIndexCache current, CensusStorage storage)
+			throws IOException, CSVBuilderException {
+		long start = System.nanoTime();
+		SourceFingerprint source = SourceFingerprint.of(csvFilePath);
+		boolean incremental = current != null && current == sortIndexCache;
+		if (incremental && source.equals(fingerprint)) {
+			return new ReloadReport(false, current.getCensusTable().size(), 0, 0, 0, System.nanoTime() - start);
+		}
+		CensusTable previousTable = incremental ? current.getCensusTable() : null;
+		ChangeScanner changeScanner = new ChangeScanner(new RowHashIndex(incremental ? rowHashes : new long[0]),
+				incremental ? previousTable.size() : 0);
+		FastCSVBuilder.scan(csvFilePath, mappingSize, changeScanner);
+		boolean[] retained = changeScanner.retained;
+		List<IndiaCensusCSV> insertedRows = changeScanner.insertedRows;
+		long[] insertedHashes = changeScanner.insertedHashes;
+		int[] patchedRows = new int[retained.length];
+		int[] retainedRows = new int[retained.length];
+		int numOfRetained = 0;
+		Map<String, Integer> deletedStates = new HashMap<>();
+		int deleted = 0;
+		for (int row = 0; row < retained.length; row++) {
+			if (retained[row]) {
+				patchedRows[row] = numOfRetained;
+				retainedRows[numOfRetained++] = row;
+			} else {
+				patchedRows[row] = -1;
+				deletedStates.merge(previousTable.getState(row), 1, Integer::sum);
+				deleted++;
+			}
+		}
+		int updated = 0;
+		for (IndiaCensusCSV censusCSV : insertedRows) {
+			Integer count = deletedStates.get(censusCSV.state);
+			if (count != null && count > 0) {
+				deletedStates.put(censusCSV.state, count - 1);
+				updated++;
+			}
+		}
+		retainedRows = Arrays.copyOf(retainedRows, numOfRetained);
+		SortIndexCache patchedIndexCache;
+		if (incremental) {
+			CensusTable patchedTable = previousTable.patch(retainedRows, insertedRows).withStorage(storage);
+			patchedIndexCache = current.patch(patchedTable, patchedRows, numOfRetained);
+		} else {
+			patchedIndexCache = new SortIndexCache(CensusTable.fromCensusList(insertedRows).withStorage(storage),
+					censusSorter);
+		}
+		long[] patchedHashes = new long[numOfRetained + insertedRows.size()];
+		for (int row = 0; row < numOfRetained; row++) {
+			patchedHashes[row] = rowHashes[retainedRows[row]];
+		}
+		System.arraycopy(insertedHashes, 0, patchedHashes, numOfRetained, insertedRows.size());
+		this.rowHashes = patchedHashes;
+		this.sortIndexCache = patchedIndexCache;
+		this.changedRows = insertedRows;
+		this.fingerprint = source;
+		return new ReloadReport(true, patchedHashes.length, insertedRows.size() - updated, updated,
+				deleted - updated, System.nanoTime() - start);
+	}
+
+	private static class ChangeScanner implements FastCSVBuilder.RowVisitor {
+
+		private final RowHashIndex previousRows;
+		private final boolean[] retained;
+		private final List<IndiaCensusCSV> insertedRows = new ArrayList<>();
+		private long[] insertedHashes = new long[16];
+		private CSVRowBinder<IndiaCensusCSV>.HeaderBinding headerBinding;
+
+		ChangeScanner(RowHashIndex previousRows, int previousSize) {
+			this.previousRows = previousRows;
+			this.retained = new boolean[previousSize];
+		}
+
+		@Override
+		public void header(ByteCSVReader csvReader) throws CSVBuilderException {
+			headerBinding = CSVRowBinder.forClass(IndiaCensusCSV.class).bindHeader(csvReader);
+		}
+
+		@Override
+		public void row(ByteCSVReader csvReader) throws CSVBuilderException {
+			long hash = csvReader.hashRow();
+			int previousRow = previousRows.take(hash);
+			if (previousRow >= 0) {
+				retained[previousRow] = true;
+				return;
+			}
+			if (insertedRows.size() == insertedHashes.length) {
+				insertedHashes = Arrays.copyOf(insertedHashes, insertedHashes.length * 2);
+			}
+			insertedHashes[insertedRows.size()] = hash;
+			insertedRows.add(headerBinding.bind(csvReader));
+		}
+	}
+
+	private static class RowHashIndex {
+
+		private final long[] hashes;
+		private final int[] rows;
+		private final int mask;
+
+		RowHashIndex(long[] rowHashes) {
+			int capacity = Integer.highestOneBit(Math.max(2, rowHashes.length * 2 - 1)) << 1;
+			this.hashes = new long[capacity];
+			this.rows = new int[capacity];
+			this.mask = capacity - 1;
+			Arrays.fill(rows, -1);
+			for (int row = 0; row < rowHashes.length; row++) {
+				int slot = this.slot(rowHashes[row]);
+				while (rows[slot] != -1) {
+					slot = (slot + 1) & mask;
+				}
+				hashes[slot] = rowHashes[row];
+				rows[slot] = row;
+			}
+		}
+
+		int take(long hash) {
+			for (int slot = this.slot(hash); rows[slot] != -1; slot = (slot + 1) & mask) {
+				if (rows[slot] >= 0 && hashes[slot] == hash) {
+					int row = rows[slot];
+					rows[slot] = -2;
+					return row;
+				}
+			}
+			return -1;
+		}
+
+		private int slot(long hash) {
+			return (int) (hash ^ (hash >>> 32)) & mask;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package censusanalyser;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public enum IndianRegion {
+	NORTHERN("CH", "DL", "HR", "HP", "JK", "LA", "PB", "RJ"),
+	CENTRAL("CT", "MP", "UP", "UT"),
+	EASTERN("BH", "JH", "OR", "WB"),
+	WESTERN("DN", "DD", "GA", "GJ", "MH"),
+	SOUTHERN("AP", "AD", "KA", "KL", "PY", "TN", "TS"),
+	NORTH_EASTERN("AR", "AS", "MN", "ME", "MI", "NL", "SK", "TR"),
+	ISLANDS("AN", "LD"),
+	UNKNOWN;
+
+	private static final Map<String, IndianRegion> REGIONS_BY_STATE_CODE = new HashMap<>();
+
+	static {
+		for (IndianRegion region : values()) {
+			for (String stateCode : region.stateCodes) {
+				REGIONS_BY_STATE_CODE.put(stateCode, region);
+			}
+		}
+	}
+
+	private final String[] stateCodes;
+
+	IndianRegion(String... stateCodes) {
+		this.stateCodes = stateCodes;
+	}
+
+	public static IndianRegion forStateCode(String stateCode) {
+		IndianRegion region = stateCode == null ? null : REGIONS_BY_STATE_CODE.get(stateCode.trim().toUpperCase(Locale.ROOT));
+		return region == null ? UNKNOWN : region;
+	}
+}
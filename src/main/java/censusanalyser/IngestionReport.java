@@ -0,0 +1,36 @@
+package censusanalyser;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+public class IngestionReport {
+
+	public final int filesSubmitted;
+	public final int filesLoaded;
+	public final int numOfRows;
+	public final Map<Path, CensusAnalyserException> fileErrors;
+	public final long elapsedNanos;
+	public final CensusStatistics statistics;
+
+	public IngestionReport(int filesSubmitted, int filesLoaded, int numOfRows,
+			Map<Path, CensusAnalyserException> fileErrors, long elapsedNanos) {
+		this(filesSubmitted, filesLoaded, numOfRows, fileErrors, elapsedNanos, null);
+	}
+
+	public IngestionReport(int filesSubmitted, int filesLoaded, int numOfRows,
+			Map<Path, CensusAnalyserException> fileErrors, long elapsedNanos, CensusStatistics statistics) {
+		this.filesSubmitted = filesSubmitted;
+		this.filesLoaded = filesLoaded;
+		this.numOfRows = numOfRows;
+		this.fileErrors = Collections.unmodifiableMap(fileErrors);
+		this.elapsedNanos = elapsedNanos;
+		this.statistics = statistics;
+	}
+
+	@Override
+	public String toString() {
+		return "IngestionReport [filesSubmitted=" + filesSubmitted + ", filesLoaded=" + filesLoaded + ", numOfRows="
+				+ numOfRows + ", fileErrors=" + fileErrors.keySet() + ", elapsedNanos=" + elapsedNanos + "]";
+	}
+}
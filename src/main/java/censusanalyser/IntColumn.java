@@ -0,0 +1,126 @@
+package censusanalyser;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+abstract class IntColumn {
+
+	abstract int get(int row);
+
+	abstract void set(int row, int value);
+
+	abstract int size();
+
+	abstract CensusStorage getStorage();
+
+	abstract int[] toArray();
+
+	abstract IntColumn copy(CensusStorage storage, int size);
+
+	static IntColumn of(int[] values) {
+		return new HeapIntColumn(values);
+	}
+
+	static IntColumn allocate(CensusStorage storage, int size) {
+		if (storage == CensusStorage.HEAP) {
+			return new HeapIntColumn(new int[size]);
+		}
+		return new OffHeapIntColumn(storage, storage.allocate((long) size * Integer.BYTES).asIntBuffer());
+	}
+
+	private static class HeapIntColumn extends IntColumn {
+
+		private final int[] values;
+
+		HeapIntColumn(int[] values) {
+			this.values = values;
+		}
+
+		@Override
+		int get(int row) {
+			return values[row];
+		}
+
+		@Override
+		void set(int row, int value) {
+			values[row] = value;
+		}
+
+		@Override
+		int size() {
+			return values.length;
+		}
+
+		@Override
+		CensusStorage getStorage() {
+			return CensusStorage.HEAP;
+		}
+
+		@Override
+		int[] toArray() {
+			return values;
+		}
+
+		@Override
+		IntColumn copy(CensusStorage storage, int size) {
+			if (storage == CensusStorage.HEAP) {
+				return new HeapIntColumn(Arrays.copyOf(values, size));
+			}
+			OffHeapIntColumn copy = (OffHeapIntColumn) allocate(storage, size);
+			copy.values.duplicate().put(values, 0, Math.min(size, values.length));
+			return copy;
+		}
+	}
+
+	private static class OffHeapIntColumn extends IntColumn {
+
+		private final CensusStorage storage;
+		private final IntBuffer values;
+
+		OffHeapIntColumn(CensusStorage storage, IntBuffer values) {
+			this.storage = storage;
+			this.values = values;
+		}
+
+		@Override
+		int get(int row) {
+			return values.get(row);
+		}
+
+		@Override
+		void set(int row, int value) {
+			values.put(row, value);
+		}
+
+		@Override
+		int size() {
+			return values.capacity();
+		}
+
+		@Override
+		CensusStorage getStorage() {
+			return storage;
+		}
+
+		@Override
+		int[] toArray() {
+			int[] copy = new int[values.capacity()];
+			values.duplicate().get(copy);
+			return copy;
+		}
+
+		@Override
+		IntColumn copy(CensusStorage storage, int size) {
+			IntBuffer source = values.duplicate();
+			source.limit(Math.min(size, values.capacity()));
+			if (storage == CensusStorage.HEAP) {
+				int[] copy = new int[size];
+				source.get(copy, 0, source.limit());
+				return new HeapIntColumn(copy);
+			}
+			OffHeapIntColumn copy = (OffHeapIntColumn) allocate(storage, size);
+			copy.values.duplicate().put(source);
+			return copy;
+		}
+	}
+}
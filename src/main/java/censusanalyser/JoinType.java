@@ -0,0 +1,5 @@
+package censusanalyser;
+
+public enum JoinType {
+	INNER, LEFT_OUTER
+}
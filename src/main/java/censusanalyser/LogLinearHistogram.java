@@ -0,0 +1,70 @@
+package censusanalyser;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LogLinearHistogram implements MetricsRegistry.Histogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_VALUE_BITS = 40;
+	public static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+	private static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	@Override
+	public void record(long value) {
+		long clamped = Math.max(0, Math.min(value, MAX_TRACKABLE_VALUE));
+		counts.incrementAndGet(bucketIndex(clamped));
+		sum.add(clamped);
+		min.accumulate(clamped);
+		max.accumulate(clamped);
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+		return ((mantissa + 1) << shift) - 1;
+	}
+
+	public MetricsSnapshot.HistogramSnapshot snapshot() {
+		long[] bucketCounts = new long[BUCKETS];
+		long count = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			bucketCounts[index] = counts.get(index);
+			count += bucketCounts[index];
+		}
+		if (count == 0) {
+			return new MetricsSnapshot.HistogramSnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+		}
+		long[] percentiles = new long[4];
+		double[] quantiles = { 0.5, 0.9, 0.99, 0.999 };
+		long seen = 0;
+		int quantile = 0;
+		long maxValue = max.get();
+		for (int index = 0; index < BUCKETS && quantile < quantiles.length; index++) {
+			seen += bucketCounts[index];
+			while (quantile < quantiles.length && seen >= Math.ceil(quantiles[quantile] * count)) {
+				percentiles[quantile++] = Math.min(bucketUpperBound(index), maxValue);
+			}
+		}
+		return new MetricsSnapshot.HistogramSnapshot(count, min.get(), maxValue, (double) sum.sum() / count,
+				percentiles[0], percentiles[1], percentiles[2], percentiles[3]);
+	}
+}
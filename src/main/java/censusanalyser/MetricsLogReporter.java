@@ -0,0 +1,54 @@
+package censusanalyser;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class MetricsLogReporter implements AutoCloseable {
+
+	private final MetricsRegistry metricsRegistry;
+	private final Logger logger;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "census-metrics");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public MetricsLogReporter(MetricsRegistry metricsRegistry) {
+		this(metricsRegistry, Logger.getLogger(MetricsLogReporter.class.getName()));
+	}
+
+	public MetricsLogReporter(MetricsRegistry metricsRegistry, Logger logger) {
+		this.metricsRegistry = metricsRegistry;
+		this.logger = logger;
+	}
+
+	public MetricsLogReporter start(long period, TimeUnit unit) {
+		scheduler.scheduleAtFixedRate(this::report, period, period, unit);
+		return this;
+	}
+
+	public void report() {
+		if (!logger.isLoggable(Level.INFO)) {
+			return;
+		}
+		MetricsSnapshot snapshot = metricsRegistry.snapshot();
+		for (Map.Entry<String, Long> counter : snapshot.counters.entrySet()) {
+			logger.info(counter.getKey() + " count=" + counter.getValue());
+		}
+		for (Map.Entry<String, MetricsSnapshot.HistogramSnapshot> histogram : snapshot.histograms.entrySet()) {
+			MetricsSnapshot.HistogramSnapshot values = histogram.getValue();
+			logger.info(histogram.getKey() + " count=" + values.count + " min=" + values.min + " mean="
+					+ Math.round(values.mean) + " p50=" + values.p50 + " p90=" + values.p90 + " p99=" + values.p99
+					+ " p999=" + values.p999 + " max=" + values.max);
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+}
@@ -0,0 +1,25 @@
+package censusanalyser;
+
+public interface MetricsRegistry {
+
+	Counter NO_OP_COUNTER = delta -> {
+	};
+	Histogram NO_OP_HISTOGRAM = value -> {
+	};
+
+	Counter counter(String name);
+
+	Histogram histogram(String name);
+
+	MetricsSnapshot snapshot();
+
+	interface Counter {
+
+		void increment(long delta);
+	}
+
+	interface Histogram {
+
+		void record(long value);
+	}
+}
@@ -0,0 +1,59 @@
+package censusanalyser;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class MetricsSnapshot {
+
+	public final Map<String, Long> counters;
+	public final Map<String, HistogramSnapshot> histograms;
+
+	public MetricsSnapshot(Map<String, Long> counters, Map<String, HistogramSnapshot> histograms) {
+		this.counters = Collections.unmodifiableMap(counters);
+		this.histograms = Collections.unmodifiableMap(histograms);
+	}
+
+	public long getCounter(String name) {
+		Long value = counters.get(name);
+		return value == null ? 0 : value;
+	}
+
+	public HistogramSnapshot getHistogram(String name) {
+		return histograms.get(name);
+	}
+
+	@Override
+	public String toString() {
+		return "MetricsSnapshot [counters=" + counters + ", histograms=" + histograms + "]";
+	}
+
+	public static class HistogramSnapshot {
+
+		public final long count;
+		public final long min;
+		public final long max;
+		public final double mean;
+		public final long p50;
+		public final long p90;
+		public final long p99;
+		public final long p999;
+
+		public HistogramSnapshot(long count, long min, long max, double mean, long p50, long p90, long p99,
+				long p999) {
+			this.count = count;
+			this.min = min;
+			this.max = max;
+			this.mean = mean;
+			this.p50 = p50;
+			this.p90 = p90;
+			this.p99 = p99;
+			this.p999 = p999;
+		}
+
+		@Override
+		public String toString() {
+			return "HistogramSnapshot [count=" + count + ", min=" + min + ", max=" + max + ", mean=" + mean
+					+ ", p50=" + p50 + ", p90=" + p90 + ", p99=" + p99 + ", p999=" + p999 + "]";
+		}
+	}
+}
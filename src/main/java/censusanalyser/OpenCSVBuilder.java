@@ -7,19 +7,19 @@ import java.util.List;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 
-public class OpenCSVBuilder<E> implements ICSVBuilder {
+public class OpenCSVBuilder<E> implements ICSVBuilder<E> {
 
 	@Override
-	public Iterator<E> getCSVFileIterator(Reader reader, Class csvClass) throws CSVBuilderException {
+	public Iterator<E> getCSVFileIterator(Reader reader, Class<E> csvClass) throws CSVBuilderException {
 	return this.getCSVBean(reader, csvClass).iterator();	
 	}
 
 	@Override
-	public List getCSVFileList(Reader reader, Class csvClass) throws CSVBuilderException {
+	public List<E> getCSVFileList(Reader reader, Class<E> csvClass) throws CSVBuilderException {
 		return this.getCSVBean(reader, csvClass).parse();		
 	}
 
-	private CsvToBean<E> getCSVBean(Reader reader, Class csvClass) throws CSVBuilderException {
+	private CsvToBean<E> getCSVBean(Reader reader, Class<E> csvClass) throws CSVBuilderException {
 		try {
 			CsvToBeanBuilder<E> csvToBeanBuilder = new CsvToBeanBuilder<>(reader);
 			csvToBeanBuilder.withType(csvClass);
@@ -0,0 +1,206 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class ParallelCSVBuilder<E> extends FastCSVBuilder<E> {
+
+	public static final int DEFAULT_CHUNK_SIZE = 32 << 20;
+
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+
+	public ParallelCSVBuilder() {
+		this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+	public ParallelCSVBuilder(ForkJoinPool pool, int chunkSize) {
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public List<E> getCSVFileList(Path csvFilePath, Class<E> csvClass) throws CSVBuilderException, IOException {
+		return this.<Consumer<E>>getCSVFileList(csvFilePath, csvClass, null, null);
+	}
+
+	public <A extends Consumer<? super E>> List<E> getCSVFileList(Path csvFilePath, Class<E> csvClass,
+			Supplier<A> chunkConsumer, Consumer<? super A> merger) throws CSVBuilderException, IOException {
+		CSVRowBinder<E> binder = CSVRowBinder.forClass(csvClass);
+		try (FileChannel channel = FileChannel.open(csvFilePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size <= chunkSize) {
+				List<E> beans = super.getCSVFileList(csvFilePath, csvClass);
+				if (chunkConsumer != null) {
+					A consumer = chunkConsumer.get();
+					beans.forEach(consumer);
+					merger.accept(consumer);
+				}
+				return beans;
+			}
+			int chunks = (int) ((size + chunkSize - 1) / chunkSize);
+			List<ForkJoinTask<ChunkScan>> scans = new ArrayList<>(chunks);
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				long start = (long) chunk * chunkSize;
+				long length = Math.min(chunkSize, size - start);
+				scans.add(pool.submit(() -> this.scan(channel, start, length)));
+			}
+			List<Long> boundaries = new ArrayList<>();
+			List<Long> lineNumbers = new ArrayList<>();
+			boundaries.add(0L);
+			lineNumbers.add(1L);
+			boolean inQuotes = false;
+			long lines = 1;
+			for (int chunk = 1; chunk < chunks; chunk++) {
+				ChunkScan previous = this.join(scans.get(chunk - 1));
+				inQuotes ^= previous.oddQuotes;
+				lines += previous.newLines;
+				long nominal = (long) chunk * chunkSize;
+				long boundary = this.findRowStart(channel, nominal, size, inQuotes);
+				if (boundary != -1 && boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+					boundaries.add(boundary);
+					lineNumbers.add(lines + this.countNewLines(channel, nominal, boundary));
+				}
+			}
+			boundaries.add(size);
+			CSVRowBinder<E>.HeaderBinding headerBinding = bindHeader(channel, binder);
+			List<ForkJoinTask<ParsedChunk<E, A>>> parsed = new ArrayList<>(boundaries.size() - 1);
+			for (int chunk = 0; chunk < boundaries.size() - 1; chunk++) {
+				long start = boundaries.get(chunk);
+				long end = boundaries.get(chunk + 1);
+				long firstLineNumber = lineNumbers.get(chunk);
+				parsed.add(pool.submit(() -> this.parse(channel, headerBinding, start, end, firstLineNumber,
+						chunkConsumer == null ? null : chunkConsumer.get())));
+			}
+			List<List<E>> chunkBeans = new ArrayList<>(parsed.size());
+			int total = 0;
+			for (ForkJoinTask<ParsedChunk<E, A>> task : parsed) {
+				ParsedChunk<E, A> parsedChunk = this.join(task);
+				total += parsedChunk.beans.size();
+				chunkBeans.add(parsedChunk.beans);
+				if (parsedChunk.consumer != null) {
+					merger.accept(parsedChunk.consumer);
+				}
+			}
+			List<E> beans = new ArrayList<>(total);
+			for (List<E> chunk : chunkBeans) {
+				beans.addAll(chunk);
+			}
+			return beans;
+		}
+	}
+
+	private ChunkScan scan(FileChannel channel, long start, long length) throws IOException {
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		int quotes = 0;
+		long newLines = 0;
+		for (int index = 0; index < length; index++) {
+			byte current = buffer.get(index);
+			if (current == '"') {
+				quotes++;
+			} else if (current == '\n') {
+				newLines++;
+			}
+		}
+		return new ChunkScan((quotes & 1) == 1, newLines);
+	}
+
+	private long findRowStart(FileChannel channel, long position, long size, boolean inQuotes) throws IOException {
+		long length = Math.min(chunkSize, size - position);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+		for (int index = 0; index < length; index++) {
+			byte current = buffer.get(index);
+			if (current == '"') {
+				inQuotes = !inQuotes;
+			} else if (current == '\n' && !inQuotes) {
+				return position + index + 1;
+			}
+		}
+		return -1;
+	}
+
+	private long countNewLines(FileChannel channel, long start, long end) throws IOException {
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		long newLines = 0;
+		for (int index = 0; index < end - start; index++) {
+			if (buffer.get(index) == '\n') {
+				newLines++;
+			}
+		}
+		return newLines;
+	}
+
+	private <A extends Consumer<? super E>> ParsedChunk<E, A> parse(FileChannel channel,
+			CSVRowBinder<E>.HeaderBinding headerBinding, long start, long end, long firstLineNumber, A consumer)
+			throws IOException, CSVBuilderException {
+		int length = (int) (end - start);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		ByteCSVReader csvReader = new ByteCSVReader(buffer, 0, length, true, firstLineNumber);
+		if (start == 0) {
+			csvReader.nextRow();
+		}
+		List<E> beans = new ArrayList<>(length / 32);
+		while (csvReader.nextRow()) {
+			E bean = headerBinding.bind(csvReader);
+			beans.add(bean);
+			if (consumer != null) {
+				consumer.accept(bean);
+			}
+		}
+		return new ParsedChunk<>(beans, consumer);
+	}
+
+	private <T> T join(ForkJoinTask<T> task) throws CSVBuilderException, IOException {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CSVBuilderException(e.getMessage(), CSVBuilderException.ExceptionType.UNABLE_TO_PARSE, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			while (cause instanceof RuntimeException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof CSVBuilderException) {
+				throw (CSVBuilderException) cause;
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new CSVBuilderException(String.valueOf(cause.getMessage()),
+					CSVBuilderException.ExceptionType.UNABLE_TO_PARSE, cause);
+		}
+	}
+
+	private static class ParsedChunk<E, A> {
+
+		private final List<E> beans;
+		private final A consumer;
+
+		ParsedChunk(List<E> beans, A consumer) {
+			this.beans = beans;
+			this.consumer = consumer;
+		}
+	}
+
+	private static class ChunkScan {
+
+		private final boolean oddQuotes;
+		private final long newLines;
+
+		ChunkScan(boolean oddQuotes, long newLines) {
+			this.oddQuotes = oddQuotes;
+			this.newLines = newLines;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package censusanalyser;
+
+import java.util.Arrays;
+
+class QuantileSketch {
+
+	static final int DEFAULT_K = 200;
+	private static final int MIN_LEVEL_CAPACITY = 8;
+
+	private final int k;
+	private int[][] levels = new int[1][];
+	private int[] sizes = new int[1];
+	private int retained;
+	private int capacity;
+	private long count;
+	private long randomBits = 0x9E3779B97F4A7C15L;
+
+	QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	QuantileSketch(int k) {
+		if (k < MIN_LEVEL_CAPACITY) {
+			throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY + ": " + k);
+		}
+		this.k = k;
+		this.levels[0] = new int[MIN_LEVEL_CAPACITY];
+		this.capacity = this.totalCapacity();
+	}
+
+	void update(int value) {
+		this.append(0, value);
+		count++;
+		this.compress();
+	}
+
+	void merge(QuantileSketch other) {
+		if (other.k != k) {
+			throw new IllegalArgumentException("Cannot merge sketches with k=" + k + " and k=" + other.k);
+		}
+		while (levels.length < other.levels.length) {
+			this.addLevel();
+		}
+		for (int level = 0; level < other.levels.length; level++) {
+			for (int index = 0; index < other.sizes[level]; index++) {
+				this.append(level, other.levels[level][index]);
+			}
+		}
+		count += other.count;
+		this.compress();
+	}
+
+	QuantileSketch copy() {
+		QuantileSketch copy = new QuantileSketch(k);
+		copy.levels = new int[levels.length][];
+		for (int level = 0; level < levels.length; level++) {
+			copy.levels[level] = Arrays.copyOf(levels[level], levels[level].length);
+		}
+		copy.sizes = Arrays.copyOf(sizes, sizes.length);
+		copy.retained = retained;
+		copy.capacity = capacity;
+		copy.count = count;
+		copy.randomBits = randomBits;
+		return copy;
+	}
+
+	long count() {
+		return count;
+	}
+
+	int[] sortedValues(long[] cumulativeWeights) {
+		long[] weighted = new long[retained];
+		int next = 0;
+		for (int level = 0; level < levels.length; level++) {
+			for (int index = 0; index < sizes[level]; index++) {
+				weighted[next++] = (long) levels[level][index] << 32 | level;
+			}
+		}
+		Arrays.sort(weighted);
+		int[] values = new int[retained];
+		long weight = 0;
+		for (int index = 0; index < retained; index++) {
+			values[index] = (int) (weighted[index] >> 32);
+			weight += 1L << (int) weighted[index];
+			cumulativeWeights[index] = weight;
+		}
+		return values;
+	}
+
+	int retained() {
+		return retained;
+	}
+
+	private void append(int level, int value) {
+		if (sizes[level] == levels[level].length) {
+			levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+		}
+		levels[level][sizes[level]++] = value;
+		retained++;
+	}
+
+	private void compress() {
+		while (retained > capacity) {
+			for (int level = 0; level < levels.length; level++) {
+				if (sizes[level] >= this.levelCapacity(level)) {
+					this.compact(level);
+					break;
+				}
+			}
+		}
+	}
+
+	private void compact(int level) {
+		if (level == levels.length - 1) {
+			this.addLevel();
+		}
+		int[] items = levels[level];
+		int size = sizes[level];
+		Arrays.sort(items, 0, size);
+		int pairs = size & ~1;
+		for (int index = (int) this.nextRandomBit(); index < pairs; index += 2) {
+			this.append(level + 1, items[index]);
+		}
+		retained -= pairs;
+		if ((size & 1) == 1) {
+			items[0] = items[size - 1];
+		}
+		sizes[level] = size - pairs;
+	}
+
+	private void addLevel() {
+		levels = Arrays.copyOf(levels, levels.length + 1);
+		levels[levels.length - 1] = new int[MIN_LEVEL_CAPACITY];
+		sizes = Arrays.copyOf(sizes, sizes.length + 1);
+		capacity = this.totalCapacity();
+	}
+
+	private int levelCapacity(int level) {
+		int depth = levels.length - 1 - level;
+		return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+	}
+
+	private int totalCapacity() {
+		int total = 0;
+		for (int level = 0; level < levels.length; level++) {
+			total += this.levelCapacity(level);
+		}
+		return total;
+	}
+
+	private long nextRandomBit() {
+		randomBits ^= randomBits << 13;
+		randomBits ^= randomBits >>> 7;
+		randomBits ^= randomBits << 17;
+		return randomBits & 1;
+	}
+}
@@ -0,0 +1,27 @@
+package censusanalyser;
+
+public class ReloadReport {
+
+	public final boolean fileChanged;
+	public final int numOfRows;
+	public final int inserted;
+	public final int updated;
+	public final int deleted;
+	public final long elapsedNanos;
+
+	public ReloadReport(boolean fileChanged, int numOfRows, int inserted, int updated, int deleted,
+			long elapsedNanos) {
+		this.fileChanged = fileChanged;
+		this.numOfRows = numOfRows;
+		this.inserted = inserted;
+		this.updated = updated;
+		this.deleted = deleted;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "ReloadReport [fileChanged=" + fileChanged + ", numOfRows=" + numOfRows + ", inserted=" + inserted
+				+ ", updated=" + updated + ", deleted=" + deleted + ", elapsedNanos=" + elapsedNanos + "]";
+	}
+}
@@ -0,0 +1,94 @@
+package censusanalyser;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class SortIndexCache {
+
+	private final CensusTable censusTable;
+	private final CensusSorter censusSorter;
+	private final AtomicReferenceArray<int[]> sortIndexes;
+
+	public SortIndexCache(CensusTable censusTable, CensusSorter censusSorter) {
+		this(censusTable, censusSorter,
+				new AtomicReferenceArray<>(CensusColumn.values().length * SortOrder.values().length));
+	}
+
+	private SortIndexCache(CensusTable censusTable, CensusSorter censusSorter,
+			AtomicReferenceArray<int[]> sortIndexes) {
+		this.censusTable = censusTable;
+		this.censusSorter = censusSorter;
+		this.sortIndexes = sortIndexes;
+	}
+
+	public CensusTable getCensusTable() {
+		return censusTable;
+	}
+
+	public int[] getSortIndex(CensusColumn column, SortOrder order) {
+		int slot = column.ordinal() * SortOrder.values().length + order.ordinal();
+		int[] sortIndex = sortIndexes.get(slot);
+		if (sortIndex == null) {
+			int[] built = censusSorter.sortIndex(censusTable.getSortKeys(column), order == SortOrder.DESCENDING);
+			sortIndex = sortIndexes.compareAndSet(slot, null, built) ? built : sortIndexes.get(slot);
+		}
+		return sortIndex;
+	}
+
+	public boolean isCached(CensusColumn column, SortOrder order) {
+		return sortIndexes.get(column.ordinal() * SortOrder.values().length + order.ordinal()) != null;
+	}
+
+	SortIndexCache patch(CensusTable patchedTable, int[] patchedRows, int firstInsertedRow) {
+		AtomicReferenceArray<int[]> patchedIndexes = new AtomicReferenceArray<>(sortIndexes.length());
+		for (CensusColumn column : CensusColumn.values()) {
+			int[] keys = patchedTable.getSortKeys(column);
+			int[] insertedKeys = Arrays.copyOfRange(keys, firstInsertedRow, keys.length);
+			for (SortOrder order : SortOrder.values()) {
+				int slot = column.ordinal() * SortOrder.values().length + order.ordinal();
+				int[] sortIndex = sortIndexes.get(slot);
+				if (sortIndex != null) {
+					boolean descending = order == SortOrder.DESCENDING;
+					int[] insertedIndex = censusSorter.sortIndex(insertedKeys, descending);
+					patchedIndexes.set(slot, merge(keys, sortIndex, patchedRows, insertedIndex, firstInsertedRow,
+							patchedTable.size(), descending));
+				}
+			}
+		}
+		return new SortIndexCache(patchedTable, censusSorter, patchedIndexes);
+	}
+
+	private static int[] merge(int[] keys, int[] sortIndex, int[] patchedRows, int[] insertedIndex,
+			int firstInsertedRow, int size, boolean descending) {
+		int[] merged = new int[size];
+		int mergedSize = 0;
+		int inserted = 0;
+		for (int previousRow : sortIndex) {
+			int row = patchedRows[previousRow];
+			if (row < 0) {
+				continue;
+			}
+			while (inserted < insertedIndex.length
+					&& precedes(keys[firstInsertedRow + insertedIndex[inserted]], keys[row], descending)) {
+				merged[mergedSize++] = firstInsertedRow + insertedIndex[inserted++];
+			}
+			merged[mergedSize++] = row;
+		}
+		while (inserted < insertedIndex.length) {
+			merged[mergedSize++] = firstInsertedRow + insertedIndex[inserted++];
+		}
+		return merged;
+	}
+
+	private static boolean precedes(int key, int other, boolean descending) {
+		return descending ? key > other : key < other;
+	}
+
+	public void buildAll() {
+		for (CensusColumn column : CensusColumn.values()) {
+			for (SortOrder order : SortOrder.values()) {
+				this.getSortIndex(column, order);
+			}
+		}
+	}
+}
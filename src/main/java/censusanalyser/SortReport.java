@@ -0,0 +1,20 @@
+package censusanalyser;
+
+public class SortReport {
+
+	public final SortStrategy strategy;
+	public final int numOfElements;
+	public final long elapsedNanos;
+
+	public SortReport(SortStrategy strategy, int numOfElements, long elapsedNanos) {
+		this.strategy = strategy;
+		this.numOfElements = numOfElements;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "SortReport [strategy=" + strategy + ", numOfElements=" + numOfElements + ", elapsedNanos="
+				+ elapsedNanos + "]";
+	}
+}
@@ -0,0 +1,5 @@
+package censusanalyser;
+
+public enum SortStrategy {
+	AUTO, TIM_SORT, QUICK_SORT, PARALLEL_SORT, RADIX_SORT
+}
@@ -0,0 +1,39 @@
+package censusanalyser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SourceFingerprint {
+
+	public final long size;
+	public final long lastModified;
+
+	public SourceFingerprint(long size, long lastModified) {
+		this.size = size;
+		this.lastModified = lastModified;
+	}
+
+	public static SourceFingerprint of(Path sourcePath) throws IOException {
+		return new SourceFingerprint(Files.size(sourcePath), Files.getLastModifiedTime(sourcePath).toMillis());
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (!(other instanceof SourceFingerprint)) {
+			return false;
+		}
+		SourceFingerprint fingerprint = (SourceFingerprint) other;
+		return size == fingerprint.size && lastModified == fingerprint.lastModified;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+	}
+
+	@Override
+	public String toString() {
+		return "SourceFingerprint [size=" + size + ", lastModified=" + lastModified + "]";
+	}
+}
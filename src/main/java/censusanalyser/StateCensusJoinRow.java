@@ -0,0 +1,16 @@
+package censusanalyser;
+
+public class StateCensusJoinRow {
+
+	public String state;
+	public String stateCode;
+	public int population;
+	public int areaInSqKm;
+	public int densityPerSqKm;
+
+	@Override
+	public String toString() {
+		return "StateCensusJoinRow [state=" + state + ", stateCode=" + stateCode + ", population=" + population
+				+ ", areaInSqKm=" + areaInSqKm + ", densityPerSqKm=" + densityPerSqKm + "]";
+	}
+}
@@ -0,0 +1,36 @@
+package censusanalyser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StateCensusJoiner {
+
+	private StateCensusJoiner() {
+	}
+
+	public static List<StateCensusJoinRow> join(CensusTable censusTable, StateCodeIndex stateCodeIndex,
+			JoinType joinType) {
+		String[] stateCodes = new String[censusTable.getStateDictionarySize()];
+		boolean[] resolved = new boolean[stateCodes.length];
+		List<StateCensusJoinRow> joinedRows = new ArrayList<>(censusTable.size());
+		for (int row = 0; row < censusTable.size(); row++) {
+			int stateId = censusTable.getStateId(row);
+			if (!resolved[stateId]) {
+				IndiaStateCodeCSV stateCodeCSV = stateCodeIndex.find(censusTable.getState(row));
+				stateCodes[stateId] = stateCodeCSV == null ? null : stateCodeCSV.stateCode;
+				resolved[stateId] = true;
+			}
+			if (stateCodes[stateId] == null && joinType == JoinType.INNER) {
+				continue;
+			}
+			StateCensusJoinRow joinedRow = new StateCensusJoinRow();
+			joinedRow.state = censusTable.getState(row);
+			joinedRow.stateCode = stateCodes[stateId];
+			joinedRow.population = censusTable.getPopulation(row);
+			joinedRow.areaInSqKm = censusTable.getAreaInSqKm(row);
+			joinedRow.densityPerSqKm = censusTable.getDensityPerSqKm(row);
+			joinedRows.add(joinedRow);
+		}
+		return joinedRows;
+	}
+}
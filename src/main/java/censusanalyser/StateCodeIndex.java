@@ -0,0 +1,54 @@
+package censusanalyser;
+
+import java.util.List;
+
+public class StateCodeIndex {
+
+	private final String[] keys;
+	private final IndiaStateCodeCSV[] stateCodes;
+	private final int mask;
+
+	public StateCodeIndex(List<IndiaStateCodeCSV> stateCodeCSVList) {
+		int capacity = Integer.highestOneBit(Math.max(2, stateCodeCSVList.size() * 2 - 1)) << 1;
+		this.keys = new String[capacity];
+		this.stateCodes = new IndiaStateCodeCSV[capacity];
+		this.mask = capacity - 1;
+		for (IndiaStateCodeCSV stateCodeCSV : stateCodeCSVList) {
+			this.insert(StateNameNormalizer.normalize(stateCodeCSV.state), stateCodeCSV);
+		}
+	}
+
+	private void insert(String key, IndiaStateCodeCSV stateCodeCSV) {
+		if (key == null) {
+			return;
+		}
+		for (int slot = this.hash(key); ; slot = (slot + 1) & mask) {
+			if (keys[slot] == null) {
+				keys[slot] = key;
+				stateCodes[slot] = stateCodeCSV;
+				return;
+			}
+			if (keys[slot].equals(key)) {
+				return;
+			}
+		}
+	}
+
+	public IndiaStateCodeCSV find(String stateName) {
+		String key = StateNameNormalizer.normalize(stateName);
+		if (key == null) {
+			return null;
+		}
+		for (int slot = this.hash(key); keys[slot] != null; slot = (slot + 1) & mask) {
+			if (keys[slot].equals(key)) {
+				return stateCodes[slot];
+			}
+		}
+		return null;
+	}
+
+	private int hash(String key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+}
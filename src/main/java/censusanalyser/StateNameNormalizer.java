@@ -0,0 +1,41 @@
+package censusanalyser;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class StateNameNormalizer {
+
+	private static final Map<String, String> ALIASES = new HashMap<>();
+
+	static {
+		ALIASES.put("orissa", "odisha");
+		ALIASES.put("chhattisgarh", "chattisgarh");
+		ALIASES.put("uttaranchal", "uttarakhand");
+		ALIASES.put("puducherry", "pondicherry");
+		ALIASES.put("nctofdelhi", "delhi");
+		ALIASES.put("newdelhi", "delhi");
+		ALIASES.put("andamanandnicobar", "andamanandnicobarislands");
+		ALIASES.put("lakshadweep", "lakshadweepislands");
+	}
+
+	private StateNameNormalizer() {
+	}
+
+	public static String normalize(String stateName) {
+		if (stateName == null) {
+			return null;
+		}
+		String lowerCase = stateName.toLowerCase(Locale.ROOT).replace("&", "and");
+		StringBuilder normalized = new StringBuilder(lowerCase.length());
+		for (int index = 0; index < lowerCase.length(); index++) {
+			char current = lowerCase.charAt(index);
+			if (Character.isLetterOrDigit(current)) {
+				normalized.append(current);
+			}
+		}
+		String key = normalized.toString();
+		String alias = ALIASES.get(key);
+		return alias == null ? key : alias;
+	}
+}
@@ -0,0 +1,185 @@
+package censusanalyser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+abstract class StringDictionary {
+
+	abstract String get(int id);
+
+	abstract int size();
+
+	abstract CensusStorage getStorage();
+
+	static StringDictionary of(String[] values) {
+		return new HeapStringDictionary(values);
+	}
+
+	StringDictionary copy(CensusStorage storage) {
+		String[] values = new String[this.size()];
+		for (int id = 0; id < values.length; id++) {
+			values[id] = this.get(id);
+		}
+		if (storage == CensusStorage.HEAP) {
+			return new HeapStringDictionary(values);
+		}
+		byte[][] encoded = new byte[values.length][];
+		long bytes = 0;
+		for (int id = 0; id < values.length; id++) {
+			encoded[id] = values[id].getBytes(StandardCharsets.UTF_8);
+			bytes += encoded[id].length;
+		}
+		ByteBuffer utf8 = storage.allocate(bytes);
+		IntColumn offsets = IntColumn.allocate(storage, values.length + 1);
+		for (int id = 0; id < values.length; id++) {
+			offsets.set(id, utf8.position());
+			utf8.put(encoded[id]);
+		}
+		offsets.set(values.length, utf8.position());
+		return new OffHeapStringDictionary(storage, utf8, offsets);
+	}
+
+	static class OffHeapBuilder {
+
+		private final CensusStorage storage;
+		private ByteBuffer utf8;
+		private IntColumn offsets;
+		private int[] hashes;
+		private int[] slots;
+		private int size;
+
+		OffHeapBuilder(CensusStorage storage, int initialCapacity) {
+			this.storage = storage;
+			this.utf8 = storage.allocate((long) initialCapacity * 16);
+			this.offsets = IntColumn.allocate(storage, initialCapacity + 1);
+			this.hashes = new int[initialCapacity];
+			this.slots = new int[Integer.highestOneBit(Math.max(1, initialCapacity) * 2 - 1) << 1];
+		}
+
+		int add(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			int hash = Arrays.hashCode(bytes);
+			int mask = slots.length - 1;
+			int slot = (hash ^ (hash >>> 16)) & mask;
+			for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+				int id = entry - 1;
+				if (hashes[id] == hash && this.matches(id, bytes)) {
+					return id;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if (utf8.remaining() < bytes.length) {
+				// Java 8 has no public call to free a direct or mapped buffer, so the replaced buffer is
+				// released by its Cleaner once unreachable; doubling keeps that garbage below the live size.
+				ByteBuffer grown = storage.allocate(
+						Math.max((long) utf8.capacity() * 2, (long) utf8.position() + bytes.length));
+				utf8.flip();
+				grown.put(utf8);
+				utf8 = grown;
+			}
+			if (size == hashes.length) {
+				hashes = Arrays.copyOf(hashes, size * 2);
+				offsets = offsets.copy(storage, size * 2 + 1);
+			}
+			int id = size++;
+			offsets.set(id, utf8.position());
+			utf8.put(bytes);
+			hashes[id] = hash;
+			slots[slot] = id + 1;
+			if (size * 2 > slots.length) {
+				this.rehash(slots.length * 2);
+			}
+			return id;
+		}
+
+		private boolean matches(int id, byte[] bytes) {
+			int start = offsets.get(id);
+			int end = id + 1 < size ? offsets.get(id + 1) : utf8.position();
+			if (end - start != bytes.length) {
+				return false;
+			}
+			for (int index = 0; index < bytes.length; index++) {
+				if (utf8.get(start + index) != bytes[index]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void rehash(int capacity) {
+			slots = new int[capacity];
+			int mask = capacity - 1;
+			for (int id = 0; id < size; id++) {
+				int hash = hashes[id];
+				int slot = (hash ^ (hash >>> 16)) & mask;
+				while (slots[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				slots[slot] = id + 1;
+			}
+		}
+
+		StringDictionary build() {
+			offsets.set(size, utf8.position());
+			return new OffHeapStringDictionary(storage, utf8, offsets.copy(storage, size + 1));
+		}
+	}
+
+	private static class HeapStringDictionary extends StringDictionary {
+
+		private final String[] values;
+
+		HeapStringDictionary(String[] values) {
+			this.values = values;
+		}
+
+		@Override
+		String get(int id) {
+			return values[id];
+		}
+
+		@Override
+		int size() {
+			return values.length;
+		}
+
+		@Override
+		CensusStorage getStorage() {
+			return CensusStorage.HEAP;
+		}
+	}
+
+	private static class OffHeapStringDictionary extends StringDictionary {
+
+		private final CensusStorage storage;
+		private final ByteBuffer utf8;
+		private final IntColumn offsets;
+
+		OffHeapStringDictionary(CensusStorage storage, ByteBuffer utf8, IntColumn offsets) {
+			this.storage = storage;
+			this.utf8 = utf8;
+			this.offsets = offsets;
+		}
+
+		@Override
+		String get(int id) {
+			int start = offsets.get(id);
+			byte[] bytes = new byte[offsets.get(id + 1) - start];
+			ByteBuffer value = utf8.duplicate();
+			value.position(start);
+			value.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		int size() {
+			return offsets.size() - 1;
+		}
+
+		@Override
+		CensusStorage getStorage() {
+			return storage;
+		}
+	}
+}
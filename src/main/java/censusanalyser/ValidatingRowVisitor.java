@@ -0,0 +1,90 @@
+package censusanalyser;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+class ValidatingRowVisitor<E> implements FastCSVBuilder.RowVisitor, Closeable {
+
+	private final CSVRowBinder<E> binder;
+	private final ValidationPolicy validationPolicy;
+	private final List<E> rows = new ArrayList<>();
+	private final List<ValidationReport.RowError> errors = new ArrayList<>();
+	private CSVRowBinder<E>.HeaderBinding headerBinding;
+	private OutputStream quarantine;
+	private int rejectedRows;
+
+	ValidatingRowVisitor(CSVRowBinder<E> binder, ValidationPolicy validationPolicy) {
+		this.binder = binder;
+		this.validationPolicy = validationPolicy;
+	}
+
+	List<E> getRows() {
+		return rows;
+	}
+
+	ValidationReport getReport() {
+		return new ValidationReport(validationPolicy.mode, rows.size(), rejectedRows, errors,
+				validationPolicy.quarantineFilePath);
+	}
+
+	@Override
+	public void header(ByteCSVReader csvReader) throws CSVBuilderException {
+		try {
+			headerBinding = binder.bindHeader(csvReader);
+		} catch (CSVBuilderException e) {
+			throw new CSVBuilderException(e.getMessage(), CSVBuilderException.ExceptionType.FILE_ERROR, e);
+		}
+		if (validationPolicy.mode == ValidationPolicy.Mode.QUARANTINE) {
+			try {
+				quarantine = new BufferedOutputStream(Files.newOutputStream(validationPolicy.quarantineFilePath));
+				csvReader.writeRow(quarantine);
+				quarantine.write('\n');
+			} catch (IOException e) {
+				throw new CSVBuilderException(e.getMessage(), CSVBuilderException.ExceptionType.CENSUS_FILE_PROBLEM, e);
+			}
+		}
+	}
+
+	@Override
+	public void row(ByteCSVReader csvReader) throws CSVBuilderException {
+		try {
+			rows.add(headerBinding.bind(csvReader));
+		} catch (CSVBuilderException e) {
+			this.reject(csvReader, e);
+		}
+	}
+
+	private void reject(ByteCSVReader csvReader, CSVBuilderException e) throws CSVBuilderException {
+		if (validationPolicy.mode == ValidationPolicy.Mode.FAIL_FAST) {
+			throw e;
+		}
+		rejectedRows++;
+		if (errors.size() < validationPolicy.maxCollectedErrors) {
+			String linePrefix = "Line " + csvReader.getLineNumber() + ": ";
+			String reason = String.valueOf(e.getMessage());
+			errors.add(new ValidationReport.RowError(csvReader.getLineNumber(),
+					reason.startsWith(linePrefix) ? reason.substring(linePrefix.length()) : reason));
+		}
+		if (quarantine != null) {
+			try {
+				csvReader.writeRow(quarantine);
+				quarantine.write('\n');
+			} catch (IOException ioException) {
+				throw new CSVBuilderException(ioException.getMessage(),
+						CSVBuilderException.ExceptionType.CENSUS_FILE_PROBLEM, ioException);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (quarantine != null) {
+			quarantine.close();
+		}
+	}
+}
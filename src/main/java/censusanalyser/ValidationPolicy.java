@@ -0,0 +1,51 @@
+package censusanalyser;
+
+import java.nio.file.Path;
+
+public class ValidationPolicy {
+
+	public enum Mode {
+		FAIL_FAST, SKIP_AND_COLLECT, QUARANTINE
+	}
+
+	public static final int DEFAULT_MAX_COLLECTED_ERRORS = 100;
+	public static final ValidationPolicy FAIL_FAST = new ValidationPolicy(Mode.FAIL_FAST, 0, null);
+
+	public final Mode mode;
+	public final int maxCollectedErrors;
+	public final Path quarantineFilePath;
+
+	private ValidationPolicy(Mode mode, int maxCollectedErrors, Path quarantineFilePath) {
+		if (maxCollectedErrors < 0) {
+			throw new IllegalArgumentException("maxCollectedErrors must not be negative: " + maxCollectedErrors);
+		}
+		this.mode = mode;
+		this.maxCollectedErrors = maxCollectedErrors;
+		this.quarantineFilePath = quarantineFilePath;
+	}
+
+	public static ValidationPolicy skipAndCollect() {
+		return skipAndCollect(DEFAULT_MAX_COLLECTED_ERRORS);
+	}
+
+	public static ValidationPolicy skipAndCollect(int maxCollectedErrors) {
+		return new ValidationPolicy(Mode.SKIP_AND_COLLECT, maxCollectedErrors, null);
+	}
+
+	public static ValidationPolicy quarantine(Path quarantineFilePath) {
+		return quarantine(quarantineFilePath, DEFAULT_MAX_COLLECTED_ERRORS);
+	}
+
+	public static ValidationPolicy quarantine(Path quarantineFilePath, int maxCollectedErrors) {
+		if (quarantineFilePath == null) {
+			throw new IllegalArgumentException("Quarantine needs a side file");
+		}
+		return new ValidationPolicy(Mode.QUARANTINE, maxCollectedErrors, quarantineFilePath);
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationPolicy [mode=" + mode + ", maxCollectedErrors=" + maxCollectedErrors
+				+ ", quarantineFilePath=" + quarantineFilePath + "]";
+	}
+}
@@ -0,0 +1,49 @@
+package censusanalyser;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+public class ValidationReport {
+
+	public final ValidationPolicy.Mode mode;
+	public final int numOfRows;
+	public final int rejectedRows;
+	public final List<RowError> errors;
+	public final Path quarantineFilePath;
+
+	public ValidationReport(ValidationPolicy.Mode mode, int numOfRows, int rejectedRows, List<RowError> errors,
+			Path quarantineFilePath) {
+		this.mode = mode;
+		this.numOfRows = numOfRows;
+		this.rejectedRows = rejectedRows;
+		this.errors = Collections.unmodifiableList(errors);
+		this.quarantineFilePath = quarantineFilePath;
+	}
+
+	public boolean isErrorListTruncated() {
+		return rejectedRows > errors.size();
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationReport [mode=" + mode + ", numOfRows=" + numOfRows + ", rejectedRows=" + rejectedRows
+				+ ", errors=" + errors + ", quarantineFilePath=" + quarantineFilePath + "]";
+	}
+
+	public static class RowError {
+
+		public final long lineNumber;
+		public final String reason;
+
+		public RowError(long lineNumber, String reason) {
+			this.lineNumber = lineNumber;
+			this.reason = reason;
+		}
+
+		@Override
+		public String toString() {
+			return "Line " + lineNumber + ": " + reason;
+		}
+	}
+}
@@ -1,5 +1,27 @@
 package censusanalyser;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -13,6 +35,8 @@ public class CensusAnalyserTest {
 	private static final String INDIA_CENSUS_CSV_FILE_PATH = "./src/test/resources/IndiaStateCensusData.csv";
 	private static final String WRONG_CSV_FILE_PATH = "./src/main/resources/IndiaStateCensusData.csv";
 	private static final String INDIA_STATE_CSV_FILE_PATH = "./src/test/resources/IndiaStateCode.csv";
+	private static final String IPL_MOST_RUNS_CSV_FILE_PATH = "./src/test/resources/IPL2019FactsheetMostRuns.csv";
+	private static final String IPL_MOST_WICKETS_CSV_FILE_PATH = "./src/test/resources/IPL2019FactsheetMostWkts.csv";
 
 	@Test
 	public void givenIndianCensusCSVFileReturnsCorrectRecords() throws CSVBuilderException {
@@ -24,6 +48,78 @@ public class CensusAnalyserTest {
 		}
 	}
 
+	@Test
+	public void givenIndianCensusCSVFile_WhenLoadedWithFastBuilder_ReturnsCorrectRecords() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+			int numOfRecords = censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			Assert.assertEquals(29, numOfRecords);
+			String sortedCensusData = censusAnalyser.getPopulationWiseSortedCensusData();
+			IndiaCensusCSV[] censusCSV = new Gson().fromJson(sortedCensusData, IndiaCensusCSV[].class);
+			Assert.assertEquals("Uttar Pradesh", censusCSV[0].state);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void givenIndianCensusCSVFile_WhenLoadedInParallelChunks_ReturnsRecordsInFileOrder() throws Exception {
+		ParallelCSVBuilder<IndiaCensusCSV> csvBuilder = new ParallelCSVBuilder<>(ForkJoinPool.commonPool(), 64);
+		List<IndiaCensusCSV> censusCSVList = csvBuilder.getCSVFileList(Paths.get(INDIA_CENSUS_CSV_FILE_PATH),
+				IndiaCensusCSV.class);
+		Assert.assertEquals(29, censusCSVList.size());
+		Assert.assertEquals("Uttar Pradesh", censusCSVList.get(0).state);
+		Assert.assertEquals("Sikkim", censusCSVList.get(28).state);
+	}
+
+	@Test
+	public void givenRowLongerThanChunk_WhenLoadedInParallelChunks_ShouldKeepTheRowWhole() throws Exception {
+		Path censusFile = Files.createTempFile("census", ".csv");
+		try {
+			List<String> lines = Files.readAllLines(Paths.get(INDIA_CENSUS_CSV_FILE_PATH));
+			StringBuilder longState = new StringBuilder();
+			while (longState.length() < 200) {
+				longState.append("Dadra and Nagar Haveli ");
+			}
+			lines.add(3, longState + ",585764,491,1195");
+			Files.write(censusFile, lines);
+			ParallelCSVBuilder<IndiaCensusCSV> csvBuilder = new ParallelCSVBuilder<>(ForkJoinPool.commonPool(), 64);
+			List<IndiaCensusCSV> censusCSVList = csvBuilder.getCSVFileList(censusFile, IndiaCensusCSV.class);
+			Assert.assertEquals(30, censusCSVList.size());
+			Assert.assertEquals(longState.toString(), censusCSVList.get(2).state);
+			Assert.assertEquals(585764, censusCSVList.get(2).population);
+			Assert.assertEquals("Sikkim", censusCSVList.get(29).state);
+		} finally {
+			Files.deleteIfExists(censusFile);
+		}
+	}
+
+	@Test
+	public void givenIndianCensusCSVFile_WhenSummarizedPerParallelChunk_ShouldMatchSequentialStatistics()
+			throws Exception {
+		ParallelCSVBuilder<IndiaCensusCSV> csvBuilder = new ParallelCSVBuilder<>(ForkJoinPool.commonPool(), 64);
+		CensusStatisticsCollector merged = new CensusStatisticsCollector();
+		AtomicInteger chunks = new AtomicInteger();
+		List<IndiaCensusCSV> censusCSVList = csvBuilder.getCSVFileList(Paths.get(INDIA_CENSUS_CSV_FILE_PATH),
+				IndiaCensusCSV.class, CensusStatisticsCollector::new, chunk -> {
+					chunks.incrementAndGet();
+					merged.merge(chunk);
+				});
+		CensusStatisticsCollector sequential = new CensusStatisticsCollector();
+		censusCSVList.forEach(sequential);
+		Assert.assertTrue(chunks.get() > 1);
+		CensusStatistics expected = sequential.summarize();
+		CensusStatistics actual = merged.summarize();
+		Assert.assertEquals(expected.numOfRows, actual.numOfRows);
+		Assert.assertEquals(expected.distinctStates, actual.distinctStates);
+		for (CensusColumn column : expected.getColumns().keySet()) {
+			Assert.assertEquals(expected.getColumn(column).sum, actual.getColumn(column).sum);
+			Assert.assertEquals(expected.getColumn(column).min, actual.getColumn(column).min);
+			Assert.assertEquals(expected.getColumn(column).max, actual.getColumn(column).max);
+			Assert.assertEquals(expected.getColumn(column).median(), actual.getColumn(column).median());
+		}
+	}
+
 	@Test
 	public void givenIndiaCensusData_WithWrongFile_ShouldThrowException() throws CSVBuilderException {
 		try {
@@ -178,6 +274,528 @@ public class CensusAnalyserTest {
 		}
 	}
 
+	@Test
+	public void giveIndianCensusData_WhenSortedOnPopulationWithRadixSort_ShouldReturnSortedResult() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser(new CensusSorter(SortStrategy.RADIX_SORT, 0));
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			String sortedCensusData = censusAnalyser.getPopulationWiseSortedCensusData();
+			IndiaCensusCSV[] censusCSV = new Gson().fromJson(sortedCensusData, IndiaCensusCSV[].class);
+			Assert.assertEquals(199812341, censusCSV[0].population);
+			Assert.assertEquals(SortStrategy.RADIX_SORT, censusAnalyser.getLastSortReport().strategy);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenSortedOnDifferentColumns_ShouldReuseCachedSortIndex() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			censusAnalyser.getPopulationWiseSortedCensusData();
+			censusAnalyser.getStateWiseSortedCensusData();
+			String sortedCensusData = censusAnalyser.getPopulationWiseSortedCensusData();
+			IndiaCensusCSV[] censusCSV = new Gson().fromJson(sortedCensusData, IndiaCensusCSV[].class);
+			Assert.assertEquals(199812341, censusCSV[0].population);
+			Assert.assertTrue(censusAnalyser.getDataset().getSortIndexCache().isCached(CensusColumn.POPULATION, SortOrder.DESCENDING));
+			Assert.assertTrue(censusAnalyser.getDataset().getSortIndexCache().isCached(CensusColumn.STATE, SortOrder.ASCENDING));
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenWrittenSortedOnArea_ShouldStreamSameJsonAsGetter() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			StringWriter writer = new StringWriter();
+			censusAnalyser.writeSortedCensusData(CensusColumn.AREA_IN_SQ_KM, SortOrder.DESCENDING, writer);
+			Assert.assertEquals(censusAnalyser.getAreaInSqKmWiseSortedCensusData(), writer.toString());
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenExportedSortedOnDensity_ShouldWriteFileAsynchronously() throws Exception {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			Path destination = Files.createTempDirectory("census").resolve("density.json");
+			ExportJob exportJob = new ExportJob(CensusColumn.DENSITY_PER_SQ_KM, SortOrder.DESCENDING,
+					ExportFormat.JSON, destination);
+			Path exported = censusAnalyser.exportSortedCensusData(exportJob).get();
+			String exportedJson = new String(Files.readAllBytes(exported), StandardCharsets.UTF_8);
+			Assert.assertEquals(censusAnalyser.getDensityPerSqKmWiseSortedCensusData(), exportedJson);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenReloadedInBackground_ShouldKeepOldSnapshotReadable() throws Exception {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			CensusDataset oldDataset = censusAnalyser.getDataset();
+			int numOfRecords = censusAnalyser.reloadIndiaCensusDataAsync(INDIA_CENSUS_CSV_FILE_PATH).get();
+			Assert.assertEquals(29, numOfRecords);
+			Assert.assertTrue(censusAnalyser.getDatasetVersion() > oldDataset.getVersion());
+			Assert.assertNotSame(oldDataset.getCensusTable(), censusAnalyser.getDataset().getCensusTable());
+			Assert.assertEquals(29, oldDataset.getCensusTable().size());
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenReloadedIncrementally_ShouldApplyOnlyChangedRows() throws Exception {
+		for (CensusStorage censusStorage : CensusStorage.values()) {
+			Path censusFile = Files.createTempFile("census", ".csv");
+			try {
+				List<String> lines = Files.readAllLines(Paths.get(INDIA_CENSUS_CSV_FILE_PATH));
+				Files.write(censusFile, lines);
+				CensusAnalyser censusAnalyser = new CensusAnalyser();
+				censusAnalyser.setEagerSortIndexing(true);
+				censusAnalyser.setCensusStorage(censusStorage);
+				censusAnalyser.reloadIndiaCensusDataIncrementally(censusFile.toString());
+				Assert.assertEquals(censusStorage, censusAnalyser.getDataset().getCensusTable().getStorage());
+				lines.set(1, "Uttar Pradesh,199812342,240928,829");
+				lines.remove(2);
+				lines.add("Ladakh,274289,59146,5");
+				Files.write(censusFile, lines);
+				Files.setLastModifiedTime(censusFile, FileTime.fromMillis(System.currentTimeMillis() + 2000));
+				ReloadReport reloadReport = censusAnalyser.reloadIndiaCensusDataIncrementally(censusFile.toString());
+				Assert.assertEquals(1, reloadReport.inserted);
+				Assert.assertEquals(1, reloadReport.updated);
+				Assert.assertEquals(1, reloadReport.deleted);
+				Assert.assertEquals(censusStorage, censusAnalyser.getDataset().getCensusTable().getStorage());
+				Assert.assertFalse(
+						censusAnalyser.reloadIndiaCensusDataIncrementally(censusFile.toString()).fileChanged);
+				CensusAnalyser fullyLoaded = new CensusAnalyser();
+				fullyLoaded.loadIndiaCensusData(censusFile.toString());
+				Assert.assertEquals(fullyLoaded.getStateWiseSortedCensusData(),
+						censusAnalyser.getStateWiseSortedCensusData());
+				Assert.assertEquals(fullyLoaded.getDensityPerSqKmWiseSortedCensusData(),
+						censusAnalyser.getDensityPerSqKmWiseSortedCensusData());
+			} finally {
+				Files.deleteIfExists(censusFile);
+			}
+		}
+	}
+
+	@Test
+	public void givenIndianCensusData_WhenReloadedAcrossSmallMappings_ShouldMatchSingleMapping() throws Exception {
+		Path censusFile = Paths.get(INDIA_CENSUS_CSV_FILE_PATH);
+		IncrementalCensusLoader windowedLoader = new IncrementalCensusLoader(censusFile, new CensusSorter(), 64);
+		IncrementalCensusLoader loader = new IncrementalCensusLoader(censusFile, new CensusSorter());
+		Assert.assertEquals(29, windowedLoader.reload(null).inserted);
+		loader.reload(null);
+		Assert.assertEquals(loader.getChangedRows().toString(), windowedLoader.getChangedRows().toString());
+	}
+
+	@Test
+	public void givenCensusFileWatcher_WhenFileIsWrittenInBursts_ShouldReloadOnceAfterItSettles() throws Exception {
+		Path censusFile = Files.createTempFile("census", ".csv");
+		AtomicInteger changes = new AtomicInteger();
+		try (CensusFileWatcher watcher = new CensusFileWatcher(censusFile, 200, changed -> changes.incrementAndGet())) {
+			Assert.assertEquals(censusFile.toAbsolutePath(), watcher.getCSVFilePath());
+			List<String> lines = Files.readAllLines(Paths.get(INDIA_CENSUS_CSV_FILE_PATH));
+			Files.write(censusFile, lines.subList(0, 1));
+			for (String line : lines.subList(1, lines.size())) {
+				Files.write(censusFile, Arrays.asList(line), StandardOpenOption.APPEND);
+				Thread.sleep(10);
+			}
+			Assert.assertEquals(0, changes.get());
+			long deadline = System.currentTimeMillis() + 10000;
+			while (changes.get() == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+			}
+			Thread.sleep(500);
+			Assert.assertEquals(1, changes.get());
+		} finally {
+			Files.deleteIfExists(censusFile);
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenLoadedThroughSnapshot_ShouldMatchCSVAndDetectStaleSource()
+			throws Exception {
+		Path snapshotDirectory = Files.createTempDirectory("census-snapshot");
+		Path censusFile = snapshotDirectory.resolve("IndiaStateCensusData.csv");
+		Path snapshotFile = snapshotDirectory.resolve("IndiaStateCensusData.snapshot");
+		try {
+			Files.copy(Paths.get(INDIA_CENSUS_CSV_FILE_PATH), censusFile);
+			CensusAnalyser csvAnalyser = new CensusAnalyser();
+			csvAnalyser.loadIndiaCensusData(censusFile.toString(), snapshotFile.toString());
+			Assert.assertTrue(Files.exists(snapshotFile));
+			CensusAnalyser snapshotAnalyser = new CensusAnalyser();
+			Assert.assertEquals(29, snapshotAnalyser.loadIndiaCensusData(censusFile.toString(), snapshotFile.toString()));
+			Assert.assertEquals(csvAnalyser.getPopulationWiseSortedCensusData(),
+					snapshotAnalyser.getPopulationWiseSortedCensusData());
+			Files.write(censusFile, "\nLadakh,274289,59146,5\n".getBytes(StandardCharsets.UTF_8),
+					StandardOpenOption.APPEND);
+			Assert.assertEquals(30, snapshotAnalyser.loadIndiaCensusData(censusFile.toString(), snapshotFile.toString()));
+		} finally {
+			Files.deleteIfExists(censusFile);
+			Files.deleteIfExists(snapshotFile);
+			Files.deleteIfExists(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenSnapshotCannotBeWritten_ShouldStillLoadFromCSV() throws Exception {
+		Path snapshotDirectory = Files.createTempDirectory("census-snapshot");
+		Path nestedSnapshotFile = snapshotDirectory.resolve("nested").resolve("IndiaStateCensusData.snapshot");
+		Path blockedSnapshotFile = snapshotDirectory.resolve("blocked");
+		try {
+			Files.createDirectories(blockedSnapshotFile.resolve("entry"));
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			Assert.assertEquals(29,
+					censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH, nestedSnapshotFile.toString()));
+			Assert.assertTrue(Files.exists(nestedSnapshotFile));
+			Assert.assertEquals(29,
+					censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH, blockedSnapshotFile.toString()));
+			Assert.assertEquals(37, censusAnalyser.loadIndianStateCode(INDIA_STATE_CSV_FILE_PATH,
+					blockedSnapshotFile.toString()));
+			Assert.assertEquals(2, censusAnalyser.getMetricsSnapshot().getCounter("snapshot.writeFailures"));
+			try {
+				censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH, "census\u0000.snapshot");
+				Assert.fail("Expected an invalid snapshot path to fail the load");
+			} catch (CensusAnalyserException e) {
+				Assert.assertEquals(CensusAnalyserException.ExceptionType.FILE_ERROR, e.type);
+			}
+			Assert.assertEquals(1, censusAnalyser.getMetricsSnapshot().getCounter("load.loadIndiaCensusData.errors"));
+		} finally {
+			Files.deleteIfExists(nestedSnapshotFile);
+			Files.deleteIfExists(nestedSnapshotFile.getParent());
+			Files.deleteIfExists(blockedSnapshotFile.resolve("entry"));
+			Files.deleteIfExists(blockedSnapshotFile);
+			Files.deleteIfExists(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenLoadedAndSorted_ShouldRecordLoadSortAndParseErrorMetrics() {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		try {
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			censusAnalyser.getPopulationWiseSortedCensusData();
+			censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+			censusAnalyser.loadIndiaCensusData(INDIA_STATE_CSV_FILE_PATH);
+		} catch (CensusAnalyserException e) {
+		}
+		MetricsSnapshot metricsSnapshot = censusAnalyser.getMetricsSnapshot();
+		Assert.assertEquals(1, metricsSnapshot.getHistogram("load.loadIndiaCensusData.nanos").count);
+		Assert.assertEquals(29, metricsSnapshot.getCounter("load.loadIndiaCensusData.rows"));
+		Assert.assertEquals(1, metricsSnapshot.getCounter("load.loadIndiaCensusData.errors"));
+		Assert.assertEquals(1, metricsSnapshot.getCounter("parseErrors.FILE_ERROR"));
+		Assert.assertEquals(1, metricsSnapshot.getHistogram("sort.QUICK_SORT.nanos").count);
+		Assert.assertEquals(1, metricsSnapshot.getHistogram("serialize.json.nanos").count);
+	}
+
+	@Test
+	public void giveIndianCensusAndStateCode_WhenGroupedByRegion_ShouldRollUpToNationalTotals() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			censusAnalyser.loadIndianStateCode(INDIA_STATE_CSV_FILE_PATH);
+			CensusAggregate national = censusAnalyser.aggregateCensusData(CensusGrouping.NATIONAL, JoinType.INNER)
+					.get(0);
+			Assert.assertEquals(29, national.count);
+			Assert.assertEquals(1190357880L, national.population.sum);
+			List<CensusAggregate> regions = censusAnalyser.aggregateCensusData(CensusGrouping.REGION,
+					JoinType.LEFT_OUTER);
+			long regionalPopulation = 0;
+			for (CensusAggregate region : regions) {
+				regionalPopulation += region.population.sum;
+			}
+			Assert.assertEquals(national.population.sum, regionalPopulation);
+			List<CensusAggregate> parallelRegions = new CensusAggregator(ForkJoinPool.commonPool(), 4).aggregate(
+					censusAnalyser.getDataset().getCensusTable(), censusAnalyser.getDataset().getStateCodeIndex(),
+					CensusGrouping.REGION, JoinType.LEFT_OUTER);
+			Assert.assertEquals(new Gson().toJson(regions), new Gson().toJson(parallelRegions));
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void givenLowerCaseStateCode_WhenDefaultLocaleIsTurkish_ShouldStillResolveRegion() {
+		Locale defaultLocale = Locale.getDefault();
+		try {
+			Locale.setDefault(new Locale("tr", "TR"));
+			Assert.assertEquals(IndianRegion.NORTH_EASTERN, IndianRegion.forStateCode(" mi "));
+			Assert.assertEquals(IndianRegion.SOUTHERN, IndianRegion.forStateCode("ka"));
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	@Test
+	public void givenIPLFactsheets_WhenLoadedThroughSchema_ShouldSortOnAnyColumn() throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		Assert.assertEquals(101, censusAnalyser.loadDatasetTable(IPL_MOST_RUNS_CSV_FILE_PATH, IPLSchemas.MOST_RUNS));
+		Assert.assertEquals(99, censusAnalyser.loadDatasetTable(IPL_MOST_WICKETS_CSV_FILE_PATH,
+				IPLSchemas.MOST_WICKETS));
+		DatasetTable mostRuns = censusAnalyser.getDatasetTable(IPLSchemas.MOST_RUNS.getName());
+		int[] topAverages = mostRuns.topK(mostRuns.columnIndex("Avg"), 1, SortOrder.DESCENDING);
+		Assert.assertEquals("MS Dhoni", mostRuns.getString(mostRuns.columnIndex("PLAYER"), topAverages[0]));
+		Assert.assertTrue(mostRuns.isMarked(mostRuns.columnIndex("HS"), 0));
+		Assert.assertEquals(100, mostRuns.getInt(mostRuns.columnIndex("HS"), 0));
+		String sortedWickets = censusAnalyser.getSortedDatasetData(IPLSchemas.MOST_WICKETS.getName(), "Wkts",
+				SortOrder.DESCENDING);
+		Assert.assertTrue(sortedWickets.startsWith("[{\"POS\":1,\"PLAYER\":\"Imran Tahir\""));
+	}
+
+	@Test
+	public void givenAllNullStringColumn_WhenSorted_ShouldKeepEveryRow() throws Exception {
+		Path datasetFile = Files.createTempFile("dataset", ".csv");
+		try {
+			Files.write(datasetFile, Arrays.asList("PLAYER,TEAM", "Imran Tahir,-", "Kagiso Rabada,-", "Deepak Chahar,"));
+			DatasetSchema schema = DatasetSchema.builder("Players")
+					.column("PLAYER", DatasetSchema.ColumnType.STRING)
+					.nullableColumn("TEAM", DatasetSchema.ColumnType.STRING, "-")
+					.build();
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			Assert.assertEquals(3, censusAnalyser.loadDatasetTable(datasetFile.toString(), schema));
+			DatasetTable players = censusAnalyser.getDatasetTable("Players");
+			int team = players.columnIndex("TEAM");
+			Assert.assertEquals(3, players.getSortIndex(team, SortOrder.ASCENDING).length);
+			Assert.assertEquals(3, players.getSortIndex(team, SortOrder.DESCENDING).length);
+			Assert.assertEquals(2, players.topK(team, 2, SortOrder.ASCENDING).length);
+		} finally {
+			Files.deleteIfExists(datasetFile);
+		}
+	}
+
+	@Test
+	public void givenSeveralCensusFiles_WhenIngestedInBatch_ShouldMergeGoodFilesAndReportBadOnes()
+			throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setIngestionPipeline(new CensusIngestionPipeline(2, 2, 2, 1));
+		IngestionReport ingestionReport = censusAnalyser.ingestIndiaCensusData(Arrays.asList(
+				INDIA_CENSUS_CSV_FILE_PATH, INDIA_STATE_CSV_FILE_PATH, WRONG_CSV_FILE_PATH,
+				INDIA_CENSUS_CSV_FILE_PATH), false);
+		Assert.assertEquals(2, ingestionReport.filesLoaded);
+		Assert.assertEquals(58, ingestionReport.numOfRows);
+		Assert.assertEquals(CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE,
+				ingestionReport.fileErrors.get(Paths.get(INDIA_STATE_CSV_FILE_PATH)).type);
+		Assert.assertEquals(CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM,
+				ingestionReport.fileErrors.get(Paths.get(WRONG_CSV_FILE_PATH)).type);
+		censusAnalyser.getPopulationWiseSortedCensusData();
+		ingestionReport = censusAnalyser.ingestIndiaCensusData("./src/test/resources", "IndiaStateCensus*.csv",
+				true);
+		Assert.assertEquals(1, ingestionReport.filesLoaded);
+		Assert.assertEquals(87, censusAnalyser.getDataset().getCensusTable().size());
+		List<IndiaCensusCSV> mostPopulous = censusAnalyser.topK(CensusColumn.POPULATION, 3,
+				SortOrder.DESCENDING);
+		Assert.assertEquals(mostPopulous.get(0).state, mostPopulous.get(2).state);
+	}
+
+	@Test
+	public void givenSeveralCensusFiles_WhenIngestedWithEachBuilder_ShouldReportTheSameRowsAndErrors()
+			throws Exception {
+		for (CSVBuilderFactory.BuilderType builderType : CSVBuilderFactory.BuilderType.values()) {
+			IngestionReport ingestionReport = new CensusIngestionPipeline(2, 2, 2, 1).ingest(
+					Arrays.asList(Paths.get(INDIA_CENSUS_CSV_FILE_PATH), Paths.get(INDIA_STATE_CSV_FILE_PATH),
+							Paths.get(WRONG_CSV_FILE_PATH)),
+					rows -> {
+					}, false, builderType);
+			Assert.assertEquals(1, ingestionReport.filesLoaded);
+			Assert.assertEquals(29, ingestionReport.numOfRows);
+			Assert.assertEquals(CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE,
+					ingestionReport.fileErrors.get(Paths.get(INDIA_STATE_CSV_FILE_PATH)).type);
+			Assert.assertEquals(CensusAnalyserException.ExceptionType.CENSUS_FILE_PROBLEM,
+					ingestionReport.fileErrors.get(Paths.get(WRONG_CSV_FILE_PATH)).type);
+		}
+	}
+
+	@Test
+	public void givenMalformedCensusRows_WhenLoadedWithValidationPolicy_ShouldSkipCollectOrQuarantineThem()
+			throws Exception {
+		Path censusFile = Files.createTempFile("census", ".csv");
+		Path quarantineFile = Files.createTempFile("census", ".quarantine.csv");
+		try {
+			List<String> lines = Files.readAllLines(Paths.get(INDIA_CENSUS_CSV_FILE_PATH));
+			lines.set(3, "Bihar,lots,94163,1102");
+			lines.add("Ladakh,274289");
+			Files.write(censusFile, lines);
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			ValidationReport validationReport = censusAnalyser.loadIndiaCensusData(censusFile.toString(),
+					ValidationPolicy.skipAndCollect(1));
+			Assert.assertEquals(28, validationReport.numOfRows);
+			Assert.assertEquals(2, validationReport.rejectedRows);
+			Assert.assertEquals(4, validationReport.errors.get(0).lineNumber);
+			Assert.assertTrue(validationReport.isErrorListTruncated());
+			censusAnalyser.loadIndiaCensusData(censusFile.toString(), ValidationPolicy.quarantine(quarantineFile));
+			List<String> quarantined = Files.readAllLines(quarantineFile);
+			Assert.assertEquals(Arrays.asList(lines.get(0), "Bihar,lots,94163,1102", "Ladakh,274289"), quarantined);
+			try {
+				censusAnalyser.loadIndiaCensusData(censusFile.toString(), ValidationPolicy.FAIL_FAST);
+				Assert.fail();
+			} catch (CensusAnalyserException e) {
+				Assert.assertEquals(CensusAnalyserException.ExceptionType.UNABLE_TO_PARSE, e.type);
+			}
+			try {
+				censusAnalyser.loadIndiaCensusData(INDIA_STATE_CSV_FILE_PATH, ValidationPolicy.skipAndCollect());
+				Assert.fail();
+			} catch (CensusAnalyserException e) {
+				Assert.assertEquals(CensusAnalyserException.ExceptionType.FILE_ERROR, e.type);
+			}
+			try {
+				censusAnalyser.loadIndiaCensusData("census\u0000.csv", ValidationPolicy.skipAndCollect());
+				Assert.fail();
+			} catch (CensusAnalyserException e) {
+				Assert.assertEquals(CensusAnalyserException.ExceptionType.FILE_ERROR, e.type);
+			}
+			Assert.assertEquals(3, censusAnalyser.getMetricsSnapshot().getCounter("load.loadIndiaCensusData.errors"));
+		} finally {
+			Files.deleteIfExists(censusFile);
+			Files.deleteIfExists(quarantineFile);
+		}
+	}
+
+	@Test
+	public void givenIndianCensusData_WhenStoredOffHeap_ShouldAnswerLikeHeapStorage() throws CensusAnalyserException {
+		CensusAnalyser heapAnalyser = new CensusAnalyser();
+		heapAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+		for (CensusStorage censusStorage : new CensusStorage[] { CensusStorage.OFF_HEAP,
+				CensusStorage.MEMORY_MAPPED }) {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.setCensusStorage(censusStorage);
+			Assert.assertEquals(29, censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH));
+			Assert.assertEquals(censusStorage, censusAnalyser.getDataset().getCensusTable().getStorage());
+			Assert.assertEquals(heapAnalyser.getStateWiseSortedCensusData(),
+					censusAnalyser.getStateWiseSortedCensusData());
+			Assert.assertEquals(heapAnalyser.getDensityPerSqKmWiseSortedCensusData(),
+					censusAnalyser.getDensityPerSqKmWiseSortedCensusData());
+			Assert.assertEquals(heapAnalyser.range(CensusColumn.POPULATION, 0, 50000000, 0, 10).total,
+					censusAnalyser.range(CensusColumn.POPULATION, 0, 50000000, 0, 10).total);
+		}
+	}
+
+	@Test
+	public void givenLoadedCensusData_WhenServedOverHttp_ShouldStreamGzipAndHonourETags() throws Exception {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		try (CensusHttpServer httpServer = new CensusHttpServer(censusAnalyser,
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()) {
+			URL sortedURL = new URL("http", "localhost", httpServer.getAddress().getPort(),
+					"/census/sorted?column=population&order=descending");
+			HttpURLConnection connection = (HttpURLConnection) sortedURL.openConnection();
+			Assert.assertEquals(404, connection.getResponseCode());
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			connection = (HttpURLConnection) sortedURL.openConnection();
+			connection.setRequestProperty("Accept-Encoding", "gzip");
+			Assert.assertEquals(200, connection.getResponseCode());
+			Assert.assertEquals("gzip", connection.getContentEncoding());
+			String etag = connection.getHeaderField("ETag");
+			try (InputStream body = new GZIPInputStream(connection.getInputStream())) {
+				ByteArrayOutputStream json = new ByteArrayOutputStream();
+				byte[] buffer = new byte[8192];
+				for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+					json.write(buffer, 0, read);
+				}
+				Assert.assertEquals(censusAnalyser.getPopulationWiseSortedCensusData(),
+						new String(json.toByteArray(), StandardCharsets.UTF_8));
+			}
+			connection = (HttpURLConnection) sortedURL.openConnection();
+			connection.setRequestProperty("If-None-Match", etag);
+			Assert.assertEquals(304, connection.getResponseCode());
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			connection = (HttpURLConnection) sortedURL.openConnection();
+			connection.setRequestProperty("If-None-Match", etag);
+			Assert.assertEquals(200, connection.getResponseCode());
+			connection.getInputStream().close();
+			connection = (HttpURLConnection) new URL(sortedURL, "/census/top?k=-1").openConnection();
+			Assert.assertEquals(400, connection.getResponseCode());
+		}
+	}
+
+	@Test
+	public void givenBusyCensusHttpServer_WhenQueueIsFull_ShouldRejectWithServiceUnavailable() throws Exception {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+		try (CensusHttpServer httpServer = new CensusHttpServer(censusAnalyser,
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, 1).start();
+				Socket stalledWorker = new Socket(InetAddress.getLoopbackAddress(), httpServer.getAddress().getPort());
+				Socket queued = new Socket(InetAddress.getLoopbackAddress(), httpServer.getAddress().getPort());
+				Socket stalledOverflow = new Socket(InetAddress.getLoopbackAddress(),
+						httpServer.getAddress().getPort())) {
+			byte[] partialRequest = "GET /census/sorted HTTP/1.1\r\n".getBytes(StandardCharsets.US_ASCII);
+			stalledWorker.getOutputStream().write(partialRequest);
+			Thread.sleep(200);
+			queued.getOutputStream().write(partialRequest);
+			Thread.sleep(200);
+			stalledOverflow.getOutputStream().write(partialRequest);
+			Thread.sleep(200);
+			URL sortedURL = new URL("http", "localhost", httpServer.getAddress().getPort(), "/census/sorted");
+			HttpURLConnection connection = (HttpURLConnection) sortedURL.openConnection();
+			connection.setConnectTimeout(5000);
+			connection.setReadTimeout(5000);
+			Assert.assertEquals(503, connection.getResponseCode());
+			Assert.assertEquals(String.valueOf(CensusHttpServer.RETRY_AFTER_SECONDS),
+					connection.getHeaderField("Retry-After"));
+			Assert.assertEquals(2, censusAnalyser.getMetricsSnapshot().getCounter("http.rejected"));
+		}
+	}
+
+	@Test
+	public void givenIndianCensusData_WhenLoadedWithStatistics_ShouldAnswerSummariesAndMergeAppendedFiles()
+			throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.setCollectCensusStatistics(true);
+		censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+		CensusStatistics censusStatistics = censusAnalyser.getCensusStatistics();
+		ColumnSummary population = censusStatistics.getColumn(CensusColumn.POPULATION);
+		List<IndiaCensusCSV> byPopulation = censusAnalyser.topK(CensusColumn.POPULATION, 29, SortOrder.ASCENDING);
+		Assert.assertEquals(29, censusStatistics.distinctStates);
+		Assert.assertEquals(1190357880L, population.sum);
+		Assert.assertEquals(byPopulation.get(0).population, population.min);
+		Assert.assertEquals(byPopulation.get(28).population, population.max);
+		Assert.assertEquals(byPopulation.get(14).population, population.median());
+		Assert.assertEquals(29, population.distinctCount);
+		long histogramCount = 0;
+		for (ColumnSummary.HistogramBucket bucket : population.histogram) {
+			histogramCount += bucket.count;
+		}
+		Assert.assertEquals(29, histogramCount);
+		censusAnalyser.ingestIndiaCensusData(Arrays.asList(INDIA_CENSUS_CSV_FILE_PATH), true);
+		CensusStatistics appendedStatistics = censusAnalyser.getCensusStatistics();
+		Assert.assertEquals(58, appendedStatistics.numOfRows);
+		Assert.assertEquals(29, appendedStatistics.distinctStates);
+		Assert.assertEquals(2 * 1190357880L, appendedStatistics.getColumn(CensusColumn.POPULATION).sum);
+		Assert.assertEquals(population.median(), appendedStatistics.getColumn(CensusColumn.POPULATION).median());
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenTopThreeByPopulation_ShouldReturnMostPopulousStates() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			List<IndiaCensusCSV> topStates = censusAnalyser.topK(CensusColumn.POPULATION, 3, SortOrder.DESCENDING);
+			Assert.assertEquals(3, topStates.size());
+			Assert.assertEquals("Uttar Pradesh", topStates.get(0).state);
+			Assert.assertEquals("Maharashtra", topStates.get(1).state);
+			Assert.assertEquals("Bihar", topStates.get(2).state);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void giveIndianCensusData_WhenDensityInRange_ShouldReturnPagedStatesWithinRange() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			CensusPage firstPage = censusAnalyser.range(CensusColumn.DENSITY_PER_SQ_KM, 300, 800, 0, 5);
+			CensusPage secondPage = censusAnalyser.range(CensusColumn.DENSITY_PER_SQ_KM, 300, 800, 5, 5);
+			Assert.assertEquals(5, firstPage.rows.size());
+			Assert.assertEquals(12, firstPage.total);
+			Assert.assertEquals(5, secondPage.rows.size());
+			Assert.assertEquals(303, firstPage.rows.get(0).densityPerSqKm);
+			for (IndiaCensusCSV censusCSV : secondPage.rows) {
+				Assert.assertTrue(censusCSV.densityPerSqKm >= 300 && censusCSV.densityPerSqKm <= 800);
+			}
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
 	@Test
 	public void givenIndianStateCodeData_WhenSortedOnStateCode_ShouldReturnSortedResult() {
 		try {
@@ -190,6 +808,61 @@ public class CensusAnalyserTest {
 		}
 	}
 
+	@Test
+	public void givenIndianStateCodeData_WhenSortedWithComparator_ShouldPublishSortedOrder()
+			throws CensusAnalyserException {
+		CensusAnalyser censusAnalyser = new CensusAnalyser();
+		censusAnalyser.loadIndianStateCode(INDIA_STATE_CSV_FILE_PATH);
+		Comparator<IndiaStateCodeCSV> byCodeDescending = Comparator.comparing(
+				(IndiaStateCodeCSV census) -> census.stateCode).reversed();
+		List<IndiaStateCodeCSV> sortedStateCodes = censusAnalyser.getSortedStateCodes(byCodeDescending);
+		Assert.assertEquals("WB", sortedStateCodes.get(0).stateCode);
+		Assert.assertEquals("AD", sortedStateCodes.get(sortedStateCodes.size() - 1).stateCode);
+		censusAnalyser.sortStateCode(byCodeDescending);
+		Assert.assertEquals(sortedStateCodes, censusAnalyser.getDataset().getStateCodes());
+	}
+
+	@Test
+	public void givenIndianCensusCSV_WhenStreamed_ShouldAggregateInSinglePassWithoutStoring() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			long[] totalPopulation = new long[1];
+			int numOfRecords = censusAnalyser.streamIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH,
+					census -> totalPopulation[0] += census.population);
+			Assert.assertEquals(29, numOfRecords);
+			Assert.assertEquals(1190357880L, totalPopulation[0]);
+			Assert.assertFalse(censusAnalyser.getDataset().hasCensusData());
+			censusAnalyser.setCSVBuilderType(CSVBuilderFactory.BuilderType.FAST);
+			long[] fastPopulation = new long[1];
+			Assert.assertEquals(29, censusAnalyser.streamIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH,
+					census -> fastPopulation[0] += census.population));
+			Assert.assertEquals(1190357880L, fastPopulation[0]);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void givenCensusAndStateCodeData_WhenJoined_ShouldEnrichEachStateWithItsCode() {
+		try {
+			CensusAnalyser censusAnalyser = new CensusAnalyser();
+			censusAnalyser.loadIndiaCensusData(INDIA_CENSUS_CSV_FILE_PATH);
+			censusAnalyser.loadIndianStateCode(INDIA_STATE_CSV_FILE_PATH);
+			String joinedCensusData = censusAnalyser.getStateCodeJoinedCensusData(JoinType.INNER);
+			StateCensusJoinRow[] joinedRows = new Gson().fromJson(joinedCensusData, StateCensusJoinRow[].class);
+			Assert.assertEquals(29, joinedRows.length);
+			Assert.assertEquals("Uttar Pradesh", joinedRows[0].state);
+			Assert.assertEquals("UP", joinedRows[0].stateCode);
+		} catch (CensusAnalyserException e) {
+		}
+	}
+
+	@Test
+	public void givenStateNamesSpelledDifferently_WhenNormalized_ShouldMatch() {
+		Assert.assertEquals(StateNameNormalizer.normalize("Jammu and Kashmir"),
+				StateNameNormalizer.normalize("JAMMU & KASHMIR"));
+		Assert.assertEquals(StateNameNormalizer.normalize("Odisha"), StateNameNormalizer.normalize("Orissa"));
+	}
+
 	@Test
 	public void givenIndianCensusCommonCSVFileReturnsCorrectRecords() throws CSVBuilderException {
 		try {
@@ -234,4 +907,19 @@ public class CensusAnalyserTest {
 		}
 	}
 
+	@Test
+	public void givenMixedSignKeys_WhenSortIndexedWithEachStrategy_ShouldOrderNumerically() {
+		int[] keys = { 5, -3, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1, 3 };
+		int[] ascending = { 2, 1, 5, 3, 6, 0, 4 };
+		int[] descending = { 4, 0, 6, 3, 5, 1, 2 };
+		for (SortStrategy strategy : new SortStrategy[] { SortStrategy.TIM_SORT, SortStrategy.PARALLEL_SORT,
+				SortStrategy.RADIX_SORT }) {
+			CensusSorter censusSorter = new CensusSorter(strategy, 0);
+			Assert.assertArrayEquals(ascending, censusSorter.sortIndex(keys, false));
+			Assert.assertArrayEquals(descending, censusSorter.sortIndex(keys, true));
+			Assert.assertEquals(strategy == SortStrategy.TIM_SORT ? SortStrategy.QUICK_SORT : strategy,
+					censusSorter.getLastSortReport().strategy);
+		}
+	}
+
 }